@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.benchmarks;
+
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.core.concurrent.ContextAwareBlockingQueue;
+import nl.talsmasoftware.context.managers.locale.CurrentLocaleHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draining a {@linkplain ContextAwareBlockingQueue} whose elements share one producer snapshot,
+ * compared to polling the elements one by one, reactivating the snapshot for each element.
+ *
+ * @author Sjoerd Talsma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockingQueueDrainBenchmark {
+    @Param({"1", "100"})
+    int elements;
+
+    List<Integer> produced;
+    ContextAwareBlockingQueue<Integer> queue;
+
+    @Setup
+    public void createQueue() {
+        produced = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            produced.add(i);
+        }
+        queue = new ContextAwareBlockingQueue<>();
+        CurrentLocaleHolder.set(Locale.GERMANY);
+    }
+
+    @TearDown
+    public void clearContexts() {
+        ContextManager.clearAll();
+    }
+
+    @Benchmark
+    public int drainTo(Blackhole blackhole) {
+        queue.addAll(produced);
+        return queue.drainTo(element -> blackhole.consume(CurrentLocaleHolder.getOrDefault()));
+    }
+
+    @Benchmark
+    public int pollEach(Blackhole blackhole) throws InterruptedException {
+        queue.addAll(produced);
+        int count = 0;
+        while (queue.poll(0L, TimeUnit.NANOSECONDS, element -> blackhole.consume(CurrentLocaleHolder.getOrDefault()))) {
+            count++;
+        }
+        return count;
+    }
+}
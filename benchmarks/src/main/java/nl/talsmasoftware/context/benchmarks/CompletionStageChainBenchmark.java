@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.benchmarks;
+
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.api.ContextSnapshot.Reactivation;
+import nl.talsmasoftware.context.core.concurrent.ContextAwareCompletableFuture;
+import nl.talsmasoftware.context.managers.locale.CurrentLocaleHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Consecutive synchronous completion stages of a {@linkplain ContextAwareCompletableFuture},
+ * compared to a plain {@linkplain CompletableFuture} chain that reactivates the snapshot in every stage.
+ *
+ * <p>
+ * The context-aware chain is completed both outside and within a reactivation of its snapshot.
+ * Within that reactivation, the stages do not reactivate the snapshot themselves.
+ *
+ * <p>
+ * The plain chain does not wrap its dependent stages like the context-aware future does,
+ * so it is a lower bound for reactivating the snapshot per stage.
+ *
+ * @author Sjoerd Talsma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletionStageChainBenchmark {
+    private static final Function<Integer, Integer> NEXT_STAGE =
+            value -> value + CurrentLocaleHolder.getOrDefault().getLanguage().length();
+
+    @Param({"1", "10"})
+    int stages;
+
+    ContextSnapshot snapshot;
+
+    @Setup
+    public void captureSnapshot() {
+        CurrentLocaleHolder.set(Locale.GERMANY);
+        snapshot = ContextSnapshot.capture();
+        ContextManager.clearAll();
+    }
+
+    @TearDown
+    public void clearContexts() {
+        ContextManager.clearAll();
+    }
+
+    @Benchmark
+    public Integer contextAwareChain() {
+        ContextAwareCompletableFuture<Integer> source = new ContextAwareCompletableFuture<>(snapshot);
+        CompletableFuture<Integer> stage = source;
+        for (int i = 0; i < stages; i++) {
+            stage = stage.thenApply(NEXT_STAGE);
+        }
+        source.complete(0);
+        return stage.join();
+    }
+
+    @Benchmark
+    public Integer contextAwareChainCompletedWithinSnapshot() {
+        ContextAwareCompletableFuture<Integer> source = new ContextAwareCompletableFuture<>(snapshot);
+        CompletableFuture<Integer> stage = source;
+        for (int i = 0; i < stages; i++) {
+            stage = stage.thenApply(NEXT_STAGE);
+        }
+        try (Reactivation reactivation = snapshot.reactivate()) {
+            source.complete(0);
+        }
+        return stage.join();
+    }
+
+    @Benchmark
+    public Integer reactivationPerStage() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        CompletableFuture<Integer> stage = source;
+        for (int i = 0; i < stages; i++) {
+            stage = stage.thenApply(value -> {
+                try (Reactivation reactivation = snapshot.reactivate()) {
+                    return NEXT_STAGE.apply(value);
+                }
+            });
+        }
+        source.complete(0);
+        return stage.join();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.benchmarks;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.managers.slf4j.mdc.CopyOnWriteMdcAdapter;
+import nl.talsmasoftware.context.managers.slf4j.mdc.Slf4jMdcManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activating and closing captured {@linkplain MDC} values that differ in one entry from the current {@code MDC},
+ * using the {@linkplain CopyOnWriteMdcAdapter}.
+ * This is compared to applying and restoring all values.
+ *
+ * @author Sjoerd Talsma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dslf4j.provider=nl.talsmasoftware.context.managers.slf4j.mdc.CopyOnWriteLogbackServiceProvider")
+public class CopyOnWriteMdcActivationBenchmark {
+    @Param({"5", "50", "500"})
+    int entries;
+
+    Slf4jMdcManager manager;
+    Map<String, String> values;
+
+    @Setup
+    public void fillMdc() {
+        manager = Slf4jMdcManager.provider();
+        for (int i = 0; i < entries; i++) {
+            MDC.put("key-" + i, "value-" + i);
+        }
+        MDC.put("key-0", "changed");
+        values = manager.getActiveContextValue();
+        MDC.put("key-0", "value-0");
+    }
+
+    @TearDown
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public Map<String, String> activate() {
+        try (Context context = manager.activate(values)) {
+            return values;
+        }
+    }
+
+    /**
+     * The activation before only the changed values were applied.
+     */
+    @Benchmark
+    public Map<String, String> applyAll() {
+        final CopyOnWriteMdcAdapter adapter = (CopyOnWriteMdcAdapter) MDC.getMDCAdapter();
+        adapter.update(adapter.update(values));
+        return values;
+    }
+}
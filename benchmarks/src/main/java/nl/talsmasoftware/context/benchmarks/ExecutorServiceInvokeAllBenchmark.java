@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.benchmarks;
+
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.concurrent.ContextAwareExecutorService;
+import nl.talsmasoftware.context.core.delegation.DelegatingExecutorService;
+import nl.talsmasoftware.context.managers.locale.CurrentLocaleHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@linkplain ContextAwareExecutorService#invokeAll(Collection) invokeAll} returning the futures of the delegate,
+ * compared to a {@linkplain DelegatingExecutorService} that copies them into a new list.
+ *
+ * <p>
+ * Tasks run directly in the calling thread, so only the overhead of the executor service is measured.
+ *
+ * @author Sjoerd Talsma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutorServiceInvokeAllBenchmark {
+    @Param({"1", "10"})
+    int tasks;
+
+    List<Callable<Locale>> callables;
+    ExecutorService contextAware;
+    ExecutorService copyingFutures;
+
+    @Setup
+    public void createExecutors() {
+        callables = Collections.nCopies(tasks, CurrentLocaleHolder::getOrDefault);
+        contextAware = ContextAwareExecutorService.wrap(new DirectExecutorService());
+        copyingFutures = new CopyingFuturesExecutorService(new DirectExecutorService());
+        CurrentLocaleHolder.set(Locale.GERMANY);
+    }
+
+    @TearDown
+    public void clearContexts() {
+        ContextManager.clearAll();
+    }
+
+    @Benchmark
+    public List<Future<Locale>> contextAware() throws InterruptedException {
+        return contextAware.invokeAll(callables);
+    }
+
+    @Benchmark
+    public List<Future<Locale>> copyingFutures() throws InterruptedException {
+        return copyingFutures.invokeAll(callables);
+    }
+
+    /**
+     * Wraps the tasks like the context-aware executor service, but copies the resulting futures into a new list.
+     */
+    private static final class CopyingFuturesExecutorService extends DelegatingExecutorService {
+        private CopyingFuturesExecutorService(ExecutorService delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected <T> List<Callable<T>> wrapTasks(Collection<? extends Callable<T>> tasks) {
+            final ContextSnapshot snapshot = ContextSnapshot.capture();
+            final List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                wrapped.add(snapshot.wrap(task));
+            }
+            return wrapped;
+        }
+    }
+
+    private static final class DirectExecutorService extends AbstractExecutorService {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+    }
+}
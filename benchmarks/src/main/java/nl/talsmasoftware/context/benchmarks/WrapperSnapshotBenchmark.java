@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.benchmarks;
+
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.delegation.WrapperWithContext;
+import nl.talsmasoftware.context.managers.locale.CurrentLocaleHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Obtaining the lazily supplied snapshot of a {@linkplain WrapperWithContext},
+ * compared to the double-checked locking it replaced.
+ *
+ * <p>
+ * The {@code first*} benchmarks resolve the snapshot of a new wrapper,
+ * the {@code shared*} benchmarks obtain the resolved snapshot of a wrapper shared by all threads.
+ *
+ * @author Sjoerd Talsma
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class WrapperSnapshotBenchmark {
+    Supplier<ContextSnapshot> supplier;
+    SnapshotWrapper sharedWrapper;
+    DoubleCheckedWrapper sharedDoubleChecked;
+
+    @Setup
+    public void createWrappers() {
+        CurrentLocaleHolder.set(Locale.GERMANY);
+        final ContextSnapshot snapshot = ContextSnapshot.capture();
+        ContextManager.clearAll();
+        supplier = () -> snapshot;
+        sharedWrapper = new SnapshotWrapper(supplier);
+        sharedDoubleChecked = new DoubleCheckedWrapper(supplier);
+    }
+
+    @Benchmark
+    public ContextSnapshot firstLockFree(Blackhole blackhole) {
+        SnapshotWrapper wrapper = new SnapshotWrapper(supplier);
+        blackhole.consume(wrapper); // escapes, like wrappers passed to other threads
+        return wrapper.resolve();
+    }
+
+    @Benchmark
+    public ContextSnapshot firstDoubleChecked(Blackhole blackhole) {
+        DoubleCheckedWrapper wrapper = new DoubleCheckedWrapper(supplier);
+        blackhole.consume(wrapper); // escapes, like wrappers passed to other threads
+        return wrapper.resolve();
+    }
+
+    @Benchmark
+    public ContextSnapshot sharedLockFree() {
+        return sharedWrapper.resolve();
+    }
+
+    @Benchmark
+    public ContextSnapshot sharedDoubleChecked() {
+        return sharedDoubleChecked.resolve();
+    }
+
+    private static final class SnapshotWrapper extends WrapperWithContext<Object> {
+        private SnapshotWrapper(Supplier<ContextSnapshot> supplier) {
+            super(supplier, new Object());
+        }
+
+        private ContextSnapshot resolve() {
+            return snapshot();
+        }
+    }
+
+    /**
+     * The double-checked locking that {@code WrapperWithContext.snapshot()} used before.
+     */
+    private static final class DoubleCheckedWrapper extends WrapperWithContext<Object> {
+        private final Supplier<ContextSnapshot> supplier;
+        private volatile ContextSnapshot snapshot;
+
+        private DoubleCheckedWrapper(Supplier<ContextSnapshot> supplier) {
+            super(supplier, new Object());
+            this.supplier = supplier;
+        }
+
+        private ContextSnapshot resolve() {
+            if (snapshot == null && supplier != null) {
+                synchronized (this) {
+                    if (snapshot == null) {
+                        snapshot = requireNonNull(supplier.get(), "Context snapshot is <null>.");
+                    }
+                }
+            }
+            return snapshot;
+        }
+    }
+}
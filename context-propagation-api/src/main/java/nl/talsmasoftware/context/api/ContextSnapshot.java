@@ -62,6 +62,22 @@ public interface ContextSnapshot {
         return ContextSnapshotImpl.capture();
     }
 
+    /**
+     * Whether a context snapshot is being captured in the current thread.
+     *
+     * <p>
+     * This is intended for context managers that bridge another context mechanism,
+     * which itself includes captured snapshots in its contexts.
+     * Such a bridge can check this method to avoid capturing a snapshot recursively,
+     * without having to maintain its own thread-local state.
+     *
+     * @return {@code true} if the current thread is capturing a context snapshot, otherwise {@code false}.
+     * @since 2.0.6
+     */
+    static boolean isCapturing() {
+        return ContextSnapshotImpl.isCapturing();
+    }
+
     /**
      * Temporarily reactivates all captured context values that are in the snapshot.
      *
@@ -77,6 +93,47 @@ public interface ContextSnapshot {
      */
     Reactivation reactivate();
 
+    /**
+     * Captures a new snapshot of the current context, reusing the values of this snapshot that did not change.
+     *
+     * <p>
+     * This is intended to capture the resulting context after code ran within a
+     * {@linkplain #reactivate() reactivation} of this snapshot.
+     * The active context values are compared with the captured values of this snapshot:
+     * <ul>
+     * <li>If no context values changed, this snapshot itself is returned.
+     * <li>Otherwise, a copy of this snapshot is returned, containing the changed values.
+     * </ul>
+     *
+     * <p>
+     * The result is equivalent to a new {@linkplain #capture()}.
+     *
+     * @return This snapshot if no context values changed, otherwise a new snapshot of the current context.
+     * @since 2.0.6
+     */
+    default ContextSnapshot recapture() {
+        return capture();
+    }
+
+    /**
+     * Whether this snapshot is the most recently reactivated snapshot in the current thread,
+     * and that reactivation has not been closed yet.
+     *
+     * <p>
+     * This allows code that is about to reactivate this snapshot to see that its values are already reactivated.
+     * Please note that context values may still have been changed since the snapshot was reactivated.
+     *
+     * <p>
+     * After reactivations were closed out of order, or after {@linkplain ContextManager#clearAll()},
+     * no snapshot is considered reactivated until a new snapshot is reactivated in the thread.
+     *
+     * @return {@code true} if this snapshot is the current reactivation in this thread, otherwise {@code false}.
+     * @since 2.0.6
+     */
+    default boolean isReactivated() {
+        return false;
+    }
+
     /**
      * Context snapshot reactivation.
      *
@@ -36,12 +36,23 @@ final class ContextSnapshotImpl implements ContextSnapshot, Serializable {
     private static final Logger TIMER_LOGGER = Logger.getLogger(ContextTimer.class.getName());
     private static final Context NOOP_CONTEXT = () -> {
     };
+    /**
+     * Per-thread capture depth, held in a mutable {@code int[1]} so capturing does not need to set or remove
+     * thread-local values and no class from this library is left behind in the thread.
+     */
+    private static final ThreadLocal<int[]> CAPTURE_DEPTH = new ThreadLocal<>();
+    /**
+     * The most recent reactivation in the current thread that was not closed yet.
+     */
+    private static final ThreadLocal<ReactivationImpl> REACTIVATED = new ThreadLocal<>();
 
     private final transient List<ContextManager> managers;
     private final transient Object[] values;
 
     static ContextSnapshot capture() {
         final long start = System.nanoTime();
+        final int[] captureDepth = captureDepth();
+        captureDepth[0]++;
         RuntimeException error = null;
         try {
             final List<ContextManager> managers = ServiceCache.cached(ContextManager.class); // Cached list is immutable
@@ -65,10 +76,20 @@ final class ContextSnapshotImpl implements ContextSnapshot, Serializable {
             ServiceCache.clear();
             throw e;
         } finally {
+            captureDepth[0]--;
             timed(System.nanoTime() - start, ContextSnapshot.class, "capture", error);
         }
     }
 
+    /**
+     * @return Whether a snapshot is being captured in the current thread.
+     * @see ContextSnapshot#isCapturing()
+     */
+    static boolean isCapturing() {
+        final int[] captureDepth = CAPTURE_DEPTH.get();
+        return captureDepth != null && captureDepth[0] > 0;
+    }
+
     private ContextSnapshotImpl(List<ContextManager> managers, Object[] values) {
         this.managers = managers;
         this.values = values;
@@ -90,7 +111,47 @@ final class ContextSnapshotImpl implements ContextSnapshot, Serializable {
         } finally {
             timed(System.nanoTime() - start, ContextSnapshot.class, "reactivate", error);
         }
-        return new ReactivationImpl(reactivatedContexts);
+        final ReactivationImpl reactivation = new ReactivationImpl(this, reactivatedContexts, REACTIVATED.get());
+        REACTIVATED.set(reactivation);
+        return reactivation;
+    }
+
+    @Override
+    public boolean isReactivated() {
+        final ReactivationImpl current = REACTIVATED.get();
+        return current != null && current.snapshot == this;
+    }
+
+    @Override
+    public ContextSnapshot recapture() {
+        if (managers != ServiceCache.cached(ContextManager.class)) {
+            return capture(); // The context managers were reloaded since this snapshot was captured.
+        }
+        final long start = System.nanoTime();
+        final int[] captureDepth = captureDepth();
+        captureDepth[0]++;
+        RuntimeException error = null;
+        try {
+            Object[] changed = null;
+            for (int i = 0; i < values.length; i++) {
+                final Object value = getActiveContextValue(managers.get(i));
+                if (value != values[i]) {
+                    if (changed == null) {
+                        changed = values.clone(); // copy-on-write
+                    }
+                    changed[i] = value;
+                }
+            }
+            return changed == null ? this : new ContextSnapshotImpl(managers, changed);
+        } catch (RuntimeException e) {
+            error = e;
+            SNAPSHOT_LOGGER.log(Level.FINEST, e, () -> "Error capturing ContextSnapshot from " + Thread.currentThread().getName() + ": " + e.getMessage());
+            ServiceCache.clear();
+            throw e;
+        } finally {
+            captureDepth[0]--;
+            timed(System.nanoTime() - start, ContextSnapshot.class, "capture", error);
+        }
     }
 
     @Override
@@ -119,19 +180,39 @@ final class ContextSnapshotImpl implements ContextSnapshot, Serializable {
         for (ContextManager<?> manager : ServiceCache.cached(ContextManager.class)) {
             clear(manager);
         }
+        REACTIVATED.remove();
         timed(System.nanoTime() - start, ContextManager.class, "clearAll", null);
     }
 
+    private static int[] captureDepth() {
+        int[] captureDepth = CAPTURE_DEPTH.get();
+        if (captureDepth == null) {
+            captureDepth = new int[1];
+            CAPTURE_DEPTH.set(captureDepth);
+        }
+        return captureDepth;
+    }
+
     /**
      * Implementation of the reactivated 'container' context that closes all reactivated contexts
      * when it is closed itself.<br>
-     * This context contains no meaningful value in itself and purely exists to close the reactivated contexts.
+     * This context contains no meaningful value in itself and purely exists to close the reactivated contexts
+     * and to restore the {@linkplain #isReactivated() previously reactivated} snapshot of the thread.
+     *
+     * <p>
+     * If reactivations are closed out of order, no snapshot is considered reactivated anymore in the thread,
+     * until a new snapshot is reactivated.
      */
     private static final class ReactivationImpl implements Reactivation {
+        private final ContextSnapshotImpl snapshot;
         private final Context[] reactivated;
+        private final ReactivationImpl previous;
+        private boolean closed;
 
-        private ReactivationImpl(Context[] reactivated) {
+        private ReactivationImpl(ContextSnapshotImpl snapshot, Context[] reactivated, ReactivationImpl previous) {
+            this.snapshot = snapshot;
             this.reactivated = reactivated;
+            this.previous = previous;
         }
 
         public void close() {
@@ -147,6 +228,11 @@ final class ContextSnapshotImpl implements ContextSnapshot, Serializable {
                     }
                 }
             }
+            if (!closed) {
+                closed = true;
+                if (previous == null || REACTIVATED.get() != this) REACTIVATED.remove(); // outermost or out of order
+                else REACTIVATED.set(previous);
+            }
             if (closeException != null) {
                 throw closeException;
             }
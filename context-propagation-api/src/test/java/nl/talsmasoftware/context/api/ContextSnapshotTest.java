@@ -244,4 +244,97 @@ class ContextSnapshotTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void recapture_unchanged() {
+        try (Context ignored = dummyManager.activate("Value 1")) {
+            ContextSnapshot snapshot = ContextSnapshot.capture();
+            try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+                assertThat(snapshot.recapture()).isSameAs(snapshot);
+            }
+        }
+    }
+
+    @Test
+    void recapture_changed() {
+        try (Context ignored = dummyManager.activate("Value 1")) {
+            ContextSnapshot snapshot = ContextSnapshot.capture();
+            ContextSnapshot recaptured;
+            try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate();
+                 Context changed = dummyManager.activate("Value 2")) {
+                recaptured = snapshot.recapture();
+            }
+            assertThat(recaptured).isNotSameAs(snapshot);
+            assertThat(recaptured.getCapturedValue(dummyManager)).isEqualTo("Value 2");
+            assertThat(snapshot.getCapturedValue(dummyManager)).isEqualTo("Value 1");
+        }
+    }
+
+    @Test
+    void recapture_afterContextManagersReloaded() {
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        ContextManager.useClassLoader(Thread.currentThread().getContextClassLoader());
+
+        ContextSnapshot recaptured = snapshot.recapture();
+        assertThat(recaptured).isNotSameAs(snapshot);
+        assertThat(recaptured.getCapturedValue(dummyManager)).isNull();
+    }
+
+    @Test
+    void isCapturing() {
+        assertThat(ContextSnapshot.isCapturing()).isFalse();
+
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        assertThat(DummyContextManager.wasCapturingDuringLastGet()).isTrue();
+        assertThat(ContextSnapshot.isCapturing()).isFalse();
+
+        dummyManager.getActiveContextValue();
+        assertThat(DummyContextManager.wasCapturingDuringLastGet()).isFalse();
+
+        snapshot.recapture();
+        assertThat(DummyContextManager.wasCapturingDuringLastGet()).isTrue();
+        assertThat(ContextSnapshot.isCapturing()).isFalse();
+    }
+
+    @Test
+    void isReactivated() {
+        ContextSnapshot snapshot1 = ContextSnapshot.capture();
+        ContextSnapshot snapshot2 = ContextSnapshot.capture();
+        assertThat(snapshot1.isReactivated()).isFalse();
+
+        try (ContextSnapshot.Reactivation reactivation1 = snapshot1.reactivate()) {
+            assertThat(snapshot1.isReactivated()).isTrue();
+            try (ContextSnapshot.Reactivation reactivation2 = snapshot2.reactivate()) {
+                assertThat(snapshot1.isReactivated()).isFalse();
+                assertThat(snapshot2.isReactivated()).isTrue();
+            }
+            assertThat(snapshot1.isReactivated()).isTrue();
+            assertThat(snapshot2.isReactivated()).isFalse();
+        }
+        assertThat(snapshot1.isReactivated()).isFalse();
+    }
+
+    @Test
+    void isReactivated_closedOutOfOrder() {
+        ContextSnapshot snapshot1 = ContextSnapshot.capture();
+        ContextSnapshot snapshot2 = ContextSnapshot.capture();
+
+        ContextSnapshot.Reactivation reactivation1 = snapshot1.reactivate();
+        ContextSnapshot.Reactivation reactivation2 = snapshot2.reactivate();
+        reactivation1.close();
+        assertThat(snapshot1.isReactivated()).isFalse();
+        assertThat(snapshot2.isReactivated()).isFalse();
+
+        reactivation2.close();
+        assertThat(snapshot1.isReactivated()).isFalse();
+        assertThat(snapshot2.isReactivated()).isFalse();
+    }
+
+    @Test
+    void isReactivated_clearAll() {
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+            ContextManager.clearAll();
+            assertThat(snapshot.isReactivated()).isFalse();
+        }
+    }
 }
@@ -17,6 +17,7 @@ package nl.talsmasoftware.context.dummy;
 
 import nl.talsmasoftware.context.api.Context;
 import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.api.ContextSnapshot;
 
 /**
  * Trivial manager around the {@link DummyContext} implementation to be registered as service provider.
@@ -24,12 +25,18 @@ import nl.talsmasoftware.context.api.ContextManager;
  * @author Sjoerd Talsma
  */
 public class DummyContextManager implements ContextManager<String> {
+    private static boolean capturingDuringLastGet = false;
+
+    public static boolean wasCapturingDuringLastGet() {
+        return capturingDuringLastGet;
+    }
 
     public Context activate(String value) {
         return new DummyContext(value);
     }
 
     public String getActiveContextValue() {
+        capturingDuringLastGet = ContextSnapshot.isCapturing();
         return DummyContext.currentValue();
     }
 
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@linkplain BlockingQueue} that carries a {@linkplain ContextSnapshot context snapshot} of the producer
+ * with each element.
+ *
+ * <p>
+ * Elements are stored together with a snapshot that is {@linkplain ContextSnapshot#capture() captured}
+ * when they are added to the queue. All elements added by a single {@linkplain #addAll(Collection) addAll} call
+ * share one snapshot.
+ *
+ * <p>
+ * The regular {@linkplain BlockingQueue} methods return the elements <em>without</em> reactivating their snapshot.
+ * To process elements within the context of their producer, use the methods accepting a {@linkplain Consumer}:
+ * <ul>
+ * <li>{@linkplain #take(Consumer)}
+ * <li>{@linkplain #poll(long, TimeUnit, Consumer)}
+ * <li>{@linkplain #drainTo(Consumer)} and {@linkplain #drainTo(Consumer, int)}
+ * </ul>
+ * When draining, consecutive elements that share the same snapshot are processed within a single reactivation.
+ *
+ * @param <E> the type of elements held in this queue
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class ContextAwareBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private final BlockingQueue<ElementWithContext<E>> delegate;
+
+    /**
+     * Creates a new context-aware blocking queue without capacity bounds.
+     *
+     * @see LinkedBlockingQueue#LinkedBlockingQueue()
+     */
+    public ContextAwareBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new context-aware blocking queue with the given (fixed) capacity.
+     *
+     * @param capacity the capacity of this queue
+     * @throws IllegalArgumentException if {@code capacity} is not greater than zero
+     * @see LinkedBlockingQueue#LinkedBlockingQueue(int)
+     */
+    public ContextAwareBlockingQueue(int capacity) {
+        this.delegate = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return delegate.offer(new ElementWithContext<>(e, ContextSnapshot.capture()));
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.offer(new ElementWithContext<>(e, ContextSnapshot.capture()), timeout, unit);
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        delegate.put(new ElementWithContext<>(e, ContextSnapshot.capture()));
+    }
+
+    /**
+     * Adds all elements in the specified collection to this queue, sharing a single context snapshot.
+     *
+     * @param elements collection containing elements to be added to this queue
+     * @return {@code true} if this queue changed as a result of the call
+     * @throws IllegalStateException if not all elements can be added at this time due to capacity restrictions
+     * @see AbstractQueue#addAll(Collection)
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        if (requireNonNull(elements, "Elements collection is <null>.") == this) {
+            throw new IllegalArgumentException("Cannot add queue to itself.");
+        }
+        final ContextSnapshot snapshot = ContextSnapshot.capture();
+        boolean modified = false;
+        for (E element : elements) {
+            if (!delegate.offer(new ElementWithContext<>(element, snapshot))) {
+                throw new IllegalStateException("Queue full");
+            }
+            modified = true;
+        }
+        return modified;
+    }
+
+    @Override
+    public E poll() {
+        return valueOf(delegate.poll());
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return valueOf(delegate.poll(timeout, unit));
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return delegate.take().value;
+    }
+
+    @Override
+    public E peek() {
+        return valueOf(delegate.peek());
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting if necessary until an element becomes available.
+     * The element is processed by the given action within the reactivated context snapshot of its producer.
+     *
+     * @param action the action to process the element with (required)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void take(Consumer<? super E> action) throws InterruptedException {
+        requireNonNull(action, "Action is <null>.");
+        process(delegate.take(), action);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue,
+     * waiting up to the specified wait time if necessary for an element to become available.
+     * The element is processed by the given action within the reactivated context snapshot of its producer.
+     *
+     * @param timeout how long to wait before giving up, in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param action  the action to process the element with (required)
+     * @return {@code true} if an element was processed,
+     * or {@code false} if the specified waiting time elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean poll(long timeout, TimeUnit unit, Consumer<? super E> action) throws InterruptedException {
+        requireNonNull(action, "Action is <null>.");
+        final ElementWithContext<E> element = delegate.poll(timeout, unit);
+        if (element == null) {
+            return false;
+        }
+        process(element, action);
+        return true;
+    }
+
+    /**
+     * Removes all available elements from this queue, processing them by the given action.
+     *
+     * @param action the action to process the elements with (required)
+     * @return the number of elements processed
+     * @see #drainTo(Consumer, int)
+     */
+    public int drainTo(Consumer<? super E> action) {
+        return drainTo(action, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes at most the given number of available elements from this queue, processing them by the given action.
+     *
+     * <p>
+     * Each element is processed within the reactivated context snapshot of its producer.
+     * Consecutive elements sharing the same snapshot are processed within a single reactivation.
+     *
+     * <p>
+     * Elements are removed from the queue one at a time, after their snapshot was reactivated and just before
+     * they are processed. If the reactivation or the action throws an exception, the remaining elements
+     * stay in the queue.
+     *
+     * @param action      the action to process the elements with (required)
+     * @param maxElements the maximum number of elements to process
+     * @return the number of elements processed
+     */
+    public int drainTo(Consumer<? super E> action, int maxElements) {
+        requireNonNull(action, "Action is <null>.");
+        int count = 0;
+        ElementWithContext<E> next = maxElements > 0 ? delegate.peek() : null;
+        while (next != null) {
+            final ContextSnapshot snapshot = next.snapshot;
+            try (ContextSnapshot.Reactivation ignored = snapshot.reactivate()) {
+                do {
+                    if (delegate.remove(next)) { // not taken by another consumer in the meantime
+                        action.accept(next.value);
+                        count++;
+                    }
+                    next = count < maxElements ? delegate.peek() : null;
+                } while (next != null && next.snapshot == snapshot);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        requireNonNull(c, "Collection is <null>.");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain queue to itself.");
+        }
+        int count = 0;
+        for (ElementWithContext<E> next; count < maxElements && (next = delegate.poll()) != null; count++) {
+            c.add(next.value);
+        }
+        return count;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return delegate.remainingCapacity();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<ElementWithContext<E>> iterator = delegate.iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterator.next().value;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    private static <E> E valueOf(ElementWithContext<E> element) {
+        return element == null ? null : element.value;
+    }
+
+    private static <E> void process(ElementWithContext<E> element, Consumer<? super E> action) {
+        try (ContextSnapshot.Reactivation ignored = element.snapshot.reactivate()) {
+            action.accept(element.value);
+        }
+    }
+
+    /**
+     * Element stored in the queue, together with the context snapshot of its producer.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class ElementWithContext<E> {
+        private final E value;
+        private final ContextSnapshot snapshot;
+
+        private ElementWithContext(E value, ContextSnapshot snapshot) {
+            this.value = requireNonNull(value, "Element is <null>.");
+            this.snapshot = snapshot;
+        }
+    }
+}
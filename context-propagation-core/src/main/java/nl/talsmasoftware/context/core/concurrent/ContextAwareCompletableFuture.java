@@ -26,6 +26,11 @@ import nl.talsmasoftware.context.core.function.SupplierWithContext;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -45,10 +50,27 @@ import static java.util.Objects.requireNonNull;
  * The implementation allows the creator to {@linkplain ContextSnapshot#capture() capture a new snapshot} to propagate
  * after each completion stage. Please be aware that setting {@linkplain #takeNewSnapshot()} may cause relatively high overhead.
  *
+ * <p>
+ * A completion stage that runs while its snapshot is already {@linkplain ContextSnapshot#isReactivated() reactivated}
+ * in the same thread does not reactivate it again.
+ * For example, completing a future within a reactivation of its snapshot runs all consecutive synchronous stages
+ * within that single reactivation.
+ *
+ * <p>
+ * The methods that were added to {@linkplain CompletableFuture} in Java 9 are provided as well, so they can also
+ * be used on Java 8. Their results are context-aware, avoiding an extra wrapping step.
+ * Timeouts and {@linkplain #delayedExecutor(long, TimeUnit) delayed executors} share a single daemon timer thread.
+ *
  * @param <T> The result type of the future.
  * @author Sjoerd Talsma
  */
 public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
+    /**
+     * The default executor for asynchronous tasks, mirroring the default of {@linkplain CompletableFuture}.
+     */
+    private static final Executor DEFAULT_EXECUTOR = ForkJoinPool.getCommonPoolParallelism() > 1
+            ? ForkJoinPool.commonPool()
+            : task -> new Thread(task).start();
 
     /**
      * Holder for context snapshots to be propagated from one CompletionStage to the next.
@@ -168,8 +190,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
             Supplier<U> supplier, Executor executor, ContextSnapshot snapshot, boolean captureNewSnapshot) {
 
         final ContextSnapshotHolder holder = new ContextSnapshotHolder(snapshot);
-        supplier = new SupplierWithContext<U>(holder, supplier, captureNewSnapshot ? holder : null) {
-        };
+        supplier = new StageSupplier<U>(holder, supplier, captureNewSnapshot ? holder : null);
         return wrap(executor == null
                         ? CompletableFuture.supplyAsync(supplier)
                         : CompletableFuture.supplyAsync(supplier, executor),
@@ -253,8 +274,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
             Runnable runnable, Executor executor, ContextSnapshot snapshot, boolean captureNewSnapshot) {
 
         final ContextSnapshotHolder holder = new ContextSnapshotHolder(snapshot);
-        runnable = new RunnableWithContext(holder, runnable, captureNewSnapshot ? holder : null) {
-        };
+        runnable = new StageRunnable(holder, runnable, captureNewSnapshot ? holder : null);
         return wrap(executor == null
                         ? CompletableFuture.runAsync(runnable)
                         : CompletableFuture.runAsync(runnable, executor),
@@ -491,15 +511,63 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
         return wrap(CompletableFuture.anyOf(cfs), holder, false);
     }
 
+    /**
+     * Returns a new Executor that submits a task to the default executor after the given delay.
+     *
+     * <p>
+     * A new {@linkplain ContextSnapshot} is captured when a task is submitted.
+     * It is reactivated when the task runs.
+     *
+     * @param delay how long to delay, in units of {@code unit}
+     * @param unit  a {@code TimeUnit} determining how to interpret the {@code delay} parameter
+     * @return the new delayed executor
+     * @see #delayedExecutor(long, TimeUnit, Executor)
+     * @since 2.0.6
+     */
+    public static Executor delayedExecutor(long delay, TimeUnit unit) {
+        return delayedExecutor(delay, unit, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Returns a new Executor that submits a task to the given base executor after the given delay.
+     *
+     * <p>
+     * A new {@linkplain ContextSnapshot} is captured when a task is submitted.
+     * It is reactivated when the task runs.
+     *
+     * <p>
+     * All delayed executors share a single timer thread.
+     * Each submitted task is scheduled on that timer as-is, no separate wrapper is created to carry the snapshot.
+     *
+     * @param delay    how long to delay, in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code delay} parameter
+     * @param executor the base executor
+     * @return the new delayed executor
+     * @since 2.0.6
+     */
+    public static Executor delayedExecutor(long delay, TimeUnit unit, Executor executor) {
+        return new DelayedExecutor(delay, requireNonNull(unit, "Time unit is <null>."), requireNonNull(executor, "Executor is <null>."));
+    }
+
     private static <U> ContextAwareCompletableFuture<U> wrap(CompletableFuture<U> completableFuture, ContextSnapshotHolder holder, boolean captureNewSnapshot) {
         ContextAwareCompletableFuture<U> contextAwareCompletableFuture = new ContextAwareCompletableFuture<>(holder, captureNewSnapshot);
-        completableFuture.whenComplete((result, throwable) -> {
+        BiConsumer<U, Throwable> completion = (result, throwable) -> {
             if (throwable != null) contextAwareCompletableFuture.completeExceptionally(throwable);
             else contextAwareCompletableFuture.complete(result);
-        });
+        };
+        if (completableFuture instanceof ContextAwareCompletableFuture) {
+            // On Java 9+ dependent stages are created by newIncompleteFuture(), so they are already context-aware.
+            ((ContextAwareCompletableFuture<U>) completableFuture).whenCompleteWithoutContext(completion);
+        } else {
+            completableFuture.whenComplete(completion);
+        }
         return contextAwareCompletableFuture;
     }
 
+    private void whenCompleteWithoutContext(BiConsumer<? super T, ? super Throwable> action) {
+        super.whenComplete(action);
+    }
+
     /**
      * Returns the snapshot holder as a result snapshot consumer to indicate that a new snapshot must be captured after
      * each completion stage. Alternatively, returns {@code null} if no new snapshot should be captured.
@@ -554,127 +622,109 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> thenApply(Function<? super T, ? extends U> fn) {
-        return wrap(super.thenApply(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenApply(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
-        return wrap(super.thenApplyAsync(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenApplyAsync(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
-        return wrap(super.thenApplyAsync(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenApplyAsync(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<Void> thenAccept(Consumer<? super T> action) {
-        return wrap(super.thenAccept(new ConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenAccept(new StageConsumer(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<Void> thenAcceptAsync(Consumer<? super T> action) {
-        return wrap(super.thenAcceptAsync(new ConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenAcceptAsync(new StageConsumer(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
-        return wrap(super.thenAcceptAsync(new ConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenAcceptAsync(new StageConsumer(snapshotHolder, action, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> thenRun(Runnable action) {
-        return wrap(super.thenRun(new RunnableWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenRun(new StageRunnable(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     public CompletableFuture<Void> thenRunAsync(Runnable action) {
-        return wrap(super.thenRunAsync(new RunnableWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenRunAsync(new StageRunnable(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> thenRunAsync(Runnable action, Executor executor) {
-        return wrap(super.thenRunAsync(new RunnableWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenRunAsync(new StageRunnable(snapshotHolder, action, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U, V> ContextAwareCompletableFuture<V> thenCombine(
             CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
-        return wrap(super.thenCombine(other, new BiFunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenCombine(other, new StageBiFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U, V> ContextAwareCompletableFuture<V> thenCombineAsync(
             CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
-        return wrap(super.thenCombineAsync(other, new BiFunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenCombineAsync(other, new StageBiFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U, V> ContextAwareCompletableFuture<V> thenCombineAsync(
             CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn, Executor executor) {
-        return wrap(super.thenCombineAsync(other, new BiFunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenCombineAsync(other, new StageBiFunction(snapshotHolder, fn, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<Void> thenAcceptBoth(
             CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
-        return wrap(super.thenAcceptBoth(other, new BiConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenAcceptBoth(other, new StageBiConsumer(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<Void> thenAcceptBothAsync(
             CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
-        return wrap(super.thenAcceptBothAsync(other, new BiConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenAcceptBothAsync(other, new StageBiConsumer(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<Void> thenAcceptBothAsync(
             CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action, Executor executor) {
-        return wrap(super.thenAcceptBothAsync(other, new BiConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenAcceptBothAsync(other, new StageBiConsumer(snapshotHolder, action, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
-        return wrap(super.runAfterBoth(other, new RunnableWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.runAfterBoth(other, new StageRunnable(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
-        return wrap(super.runAfterBothAsync(other, new RunnableWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.runAfterBothAsync(other, new StageRunnable(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
-        return wrap(super.runAfterBothAsync(other, new RunnableWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.runAfterBothAsync(other, new StageRunnable(snapshotHolder, action, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
@@ -682,8 +732,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
     public <U> ContextAwareCompletableFuture<U> applyToEither(CompletionStage<? extends T> other, Function<? super T, U> fn) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.applyToEither(other, new FunctionWithContext(newHolder, fn, captureNewSnapshot ? newHolder : null) {
-        }), newHolder, captureNewSnapshot);
+        return wrap(super.applyToEither(other, new StageFunction(newHolder, fn, captureNewSnapshot ? newHolder : null)), newHolder, captureNewSnapshot);
     }
 
     @Override
@@ -691,8 +740,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
     public <U> ContextAwareCompletableFuture<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.applyToEitherAsync(other, new FunctionWithContext(newHolder, fn, captureNewSnapshot ? newHolder : null) {
-        }), newHolder, captureNewSnapshot);
+        return wrap(super.applyToEitherAsync(other, new StageFunction(newHolder, fn, captureNewSnapshot ? newHolder : null)), newHolder, captureNewSnapshot);
     }
 
     @Override
@@ -701,8 +749,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
             CompletionStage<? extends T> other, Function<? super T, U> fn, Executor executor) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.applyToEitherAsync(other, new FunctionWithContext(newHolder, fn, captureNewSnapshot ? newHolder : null) {
-        }, executor), newHolder, captureNewSnapshot);
+        return wrap(super.applyToEitherAsync(other, new StageFunction(newHolder, fn, captureNewSnapshot ? newHolder : null), executor), newHolder, captureNewSnapshot);
     }
 
     @Override
@@ -710,8 +757,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
     public ContextAwareCompletableFuture<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.acceptEither(other, new ConsumerWithContext(newHolder, action, captureNewSnapshot ? newHolder : null) {
-        }), newHolder, captureNewSnapshot);
+        return wrap(super.acceptEither(other, new StageConsumer(newHolder, action, captureNewSnapshot ? newHolder : null)), newHolder, captureNewSnapshot);
     }
 
     @Override
@@ -719,8 +765,7 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
     public ContextAwareCompletableFuture<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.acceptEitherAsync(other, new ConsumerWithContext(newHolder, action, captureNewSnapshot ? newHolder : null) {
-        }), newHolder, captureNewSnapshot);
+        return wrap(super.acceptEitherAsync(other, new StageConsumer(newHolder, action, captureNewSnapshot ? newHolder : null)), newHolder, captureNewSnapshot);
     }
 
     @Override
@@ -729,102 +774,387 @@ public class ContextAwareCompletableFuture<T> extends CompletableFuture<T> {
             CompletionStage<? extends T> other, Consumer<? super T> action, Executor executor) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.acceptEitherAsync(other, new ConsumerWithContext(newHolder, action, captureNewSnapshot ? newHolder : null) {
-        }, executor), newHolder, captureNewSnapshot);
+        return wrap(super.acceptEitherAsync(other, new StageConsumer(newHolder, action, captureNewSnapshot ? newHolder : null), executor), newHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.runAfterEither(other, new RunnableWithContext(newHolder, action, captureNewSnapshot ? newHolder : null) {
-        }), newHolder, captureNewSnapshot);
+        return wrap(super.runAfterEither(other, new StageRunnable(newHolder, action, captureNewSnapshot ? newHolder : null)), newHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.runAfterEitherAsync(other, new RunnableWithContext(newHolder, action, captureNewSnapshot ? newHolder : null) {
-        }), newHolder, captureNewSnapshot);
+        return wrap(super.runAfterEitherAsync(other, new StageRunnable(newHolder, action, captureNewSnapshot ? newHolder : null)), newHolder, captureNewSnapshot);
     }
 
     @Override
     public ContextAwareCompletableFuture<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action, Executor executor) {
         // Don't gamble which completion stage might win, create a new holder for the resulting function instead.
         final ContextSnapshotHolder newHolder = new ContextSnapshotHolder(snapshotHolder.get());
-        return wrap(super.runAfterEitherAsync(other, new RunnableWithContext(newHolder, action, captureNewSnapshot ? newHolder : null) {
-        }, executor), newHolder, captureNewSnapshot);
+        return wrap(super.runAfterEitherAsync(other, new StageRunnable(newHolder, action, captureNewSnapshot ? newHolder : null), executor), newHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
-        return wrap(super.thenCompose(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenCompose(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
-        return wrap(super.thenComposeAsync(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenComposeAsync(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn, Executor executor) {
-        return wrap(super.thenComposeAsync(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.thenComposeAsync(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
-        return wrap(super.whenComplete(new BiConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.whenComplete(new StageBiConsumer(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
-        return wrap(super.whenCompleteAsync(new BiConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.whenCompleteAsync(new StageBiConsumer(snapshotHolder, action, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor) {
-        return wrap(super.whenCompleteAsync(new BiConsumerWithContext(snapshotHolder, action, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.whenCompleteAsync(new StageBiConsumer(snapshotHolder, action, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
-        return wrap(super.handle(new BiFunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.handle(new StageBiFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
-        return wrap(super.handleAsync(new BiFunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.handleAsync(new StageBiFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <U> ContextAwareCompletableFuture<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
-        return wrap(super.handleAsync(new BiFunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }, executor), snapshotHolder, captureNewSnapshot);
+        return wrap(super.handleAsync(new StageBiFunction(snapshotHolder, fn, resultSnapshotConsumer()), executor), snapshotHolder, captureNewSnapshot);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ContextAwareCompletableFuture<T> exceptionally(Function<Throwable, ? extends T> fn) {
-        return wrap(super.exceptionally(new FunctionWithContext(snapshotHolder, fn, resultSnapshotConsumer()) {
-        }), snapshotHolder, captureNewSnapshot);
+        return wrap(super.exceptionally(new StageFunction(snapshotHolder, fn, resultSnapshotConsumer())), snapshotHolder, captureNewSnapshot);
+    }
+
+    /**
+     * Returns a new incomplete context-aware future, propagating the same context snapshot as this future.
+     *
+     * @param <U> the type of the value
+     * @return a new context-aware completable future
+     * @since 2.0.6
+     */
+    public <U> ContextAwareCompletableFuture<U> newIncompleteFuture() {
+        return new ContextAwareCompletableFuture<>(snapshotHolder, captureNewSnapshot);
+    }
+
+    /**
+     * Returns the default executor used for async methods that do not specify an executor.
+     *
+     * <p>
+     * This is the common {@link ForkJoinPool} if it supports parallelism,
+     * otherwise a new thread is created for each task, like {@linkplain CompletableFuture} does.
+     *
+     * @return the executor
+     * @since 2.0.6
+     */
+    public Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Returns a new context-aware future that is completed normally with the same value as this future
+     * when it completes normally. If this future completes exceptionally, the returned future completes
+     * exceptionally with a {@linkplain java.util.concurrent.CompletionException CompletionException}
+     * with this exception as cause.
+     *
+     * @return the new context-aware completable future
+     * @since 2.0.6
+     */
+    public ContextAwareCompletableFuture<T> copy() {
+        return wrap(super.thenApply(Function.identity()), snapshotHolder, captureNewSnapshot);
+    }
+
+    /**
+     * Completes this future with the result of the given supplier function invoked from an asynchronous task
+     * using the given executor.
+     *
+     * <p>
+     * The supplier function is called within the context snapshot of this future.
+     *
+     * @param supplier a function returning the value to be used to complete this future
+     * @param executor the executor to use for asynchronous execution
+     * @return this future
+     * @since 2.0.6
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ContextAwareCompletableFuture<T> completeAsync(Supplier<? extends T> supplier, Executor executor) {
+        requireNonNull(supplier, "Supplier is <null>.");
+        requireNonNull(executor, "Executor is <null>.");
+        final Supplier<T> supplierWithContext = new StageSupplier(snapshotHolder, supplier, resultSnapshotConsumer());
+        executor.execute(() -> {
+            if (!isDone()) try {
+                complete(supplierWithContext.get());
+            } catch (Throwable throwable) {
+                completeExceptionally(throwable);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Completes this future with the result of the given supplier function invoked from an asynchronous task
+     * using the {@linkplain #defaultExecutor() default executor}.
+     *
+     * <p>
+     * The supplier function is called within the context snapshot of this future.
+     *
+     * @param supplier a function returning the value to be used to complete this future
+     * @return this future
+     * @since 2.0.6
+     */
+    public ContextAwareCompletableFuture<T> completeAsync(Supplier<? extends T> supplier) {
+        return completeAsync(supplier, defaultExecutor());
+    }
+
+    /**
+     * Exceptionally completes this future with a {@link TimeoutException}
+     * if not otherwise completed before the given timeout.
+     *
+     * @param timeout how long to wait before completing exceptionally with a TimeoutException,
+     *                in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return this future
+     * @since 2.0.6
+     */
+    public ContextAwareCompletableFuture<T> orTimeout(long timeout, TimeUnit unit) {
+        requireNonNull(unit, "Time unit is <null>.");
+        if (!isDone()) {
+            cancelWhenDone(DelayScheduler.schedule(() -> completeExceptionally(new TimeoutException()), timeout, unit));
+        }
+        return this;
+    }
+
+    /**
+     * Completes this future with the given value if not otherwise completed before the given timeout.
+     *
+     * @param value   the value to use upon timeout
+     * @param timeout how long to wait before completing normally with the given value, in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return this future
+     * @since 2.0.6
+     */
+    public ContextAwareCompletableFuture<T> completeOnTimeout(T value, long timeout, TimeUnit unit) {
+        requireNonNull(unit, "Time unit is <null>.");
+        if (!isDone()) {
+            cancelWhenDone(DelayScheduler.schedule(() -> complete(value), timeout, unit));
+        }
+        return this;
+    }
+
+    private void cancelWhenDone(ScheduledFuture<?> scheduledTimeout) {
+        super.whenComplete((result, throwable) -> scheduledTimeout.cancel(false));
+    }
+
+    /**
+     * Reactivation of a snapshot that was already reactivated, so closing it must not do anything.
+     */
+    private static final ContextSnapshot.Reactivation ALREADY_REACTIVATED = new ContextSnapshot.Reactivation() {
+        @Override
+        public void close() {
+            // The reactivation is closed by whoever reactivated the snapshot.
+        }
+
+        @Override
+        public String toString() {
+            return "ContextSnapshot.Reactivation{already reactivated}";
+        }
+    };
+
+    /**
+     * Reactivates the snapshot for a completion stage,
+     * unless the snapshot is already {@linkplain ContextSnapshot#isReactivated() reactivated} in this thread.
+     *
+     * @param snapshot The snapshot of the completion stage.
+     * @return The reactivation to close after the completion stage.
+     */
+    private static ContextSnapshot.Reactivation reactivateStage(ContextSnapshot snapshot) {
+        return snapshot.isReactivated() ? ALREADY_REACTIVATED : snapshot.reactivate();
+    }
+
+    /**
+     * {@linkplain Function} of a completion stage, reusing an existing reactivation of its snapshot.
+     */
+    private static final class StageFunction<T, R> extends FunctionWithContext<T, R> {
+        private StageFunction(Supplier<ContextSnapshot> holder, Function<T, R> delegate, Consumer<ContextSnapshot> consumer) {
+            super(holder, delegate, consumer);
+        }
+
+        @Override
+        protected ContextSnapshot.Reactivation reactivate() {
+            return reactivateStage(snapshot());
+        }
+    }
+
+    /**
+     * {@linkplain BiFunction} of a completion stage, reusing an existing reactivation of its snapshot.
+     */
+    private static final class StageBiFunction<T, U, R> extends BiFunctionWithContext<T, U, R> {
+        private StageBiFunction(Supplier<ContextSnapshot> holder, BiFunction<T, U, R> delegate, Consumer<ContextSnapshot> consumer) {
+            super(holder, delegate, consumer);
+        }
+
+        @Override
+        protected ContextSnapshot.Reactivation reactivate() {
+            return reactivateStage(snapshot());
+        }
+    }
+
+    /**
+     * {@linkplain Consumer} of a completion stage, reusing an existing reactivation of its snapshot.
+     */
+    private static final class StageConsumer<T> extends ConsumerWithContext<T> {
+        private StageConsumer(Supplier<ContextSnapshot> holder, Consumer<T> delegate, Consumer<ContextSnapshot> consumer) {
+            super(holder, delegate, consumer);
+        }
+
+        @Override
+        protected ContextSnapshot.Reactivation reactivate() {
+            return reactivateStage(snapshot());
+        }
+    }
+
+    /**
+     * {@linkplain BiConsumer} of a completion stage, reusing an existing reactivation of its snapshot.
+     */
+    private static final class StageBiConsumer<T, U> extends BiConsumerWithContext<T, U> {
+        private StageBiConsumer(Supplier<ContextSnapshot> holder, BiConsumer<T, U> delegate, Consumer<ContextSnapshot> consumer) {
+            super(holder, delegate, consumer);
+        }
+
+        @Override
+        protected ContextSnapshot.Reactivation reactivate() {
+            return reactivateStage(snapshot());
+        }
+    }
+
+    /**
+     * {@linkplain Runnable} of a completion stage, reusing an existing reactivation of its snapshot.
+     */
+    private static final class StageRunnable extends RunnableWithContext {
+        private StageRunnable(Supplier<ContextSnapshot> holder, Runnable delegate, Consumer<ContextSnapshot> consumer) {
+            super(holder, delegate, consumer);
+        }
+
+        @Override
+        protected ContextSnapshot.Reactivation reactivate() {
+            return reactivateStage(snapshot());
+        }
+    }
+
+    /**
+     * {@linkplain Supplier} of a completion stage, reusing an existing reactivation of its snapshot.
+     */
+    private static final class StageSupplier<T> extends SupplierWithContext<T> {
+        private StageSupplier(Supplier<ContextSnapshot> holder, Supplier<T> delegate, Consumer<ContextSnapshot> consumer) {
+            super(holder, delegate, consumer);
+        }
+
+        @Override
+        protected ContextSnapshot.Reactivation reactivate() {
+            return reactivateStage(snapshot());
+        }
+    }
+
+    /**
+     * Executor submitting tasks to a base executor after a fixed delay.
+     */
+    private static final class DelayedExecutor implements Executor {
+        private final long delay;
+        private final TimeUnit unit;
+        private final Executor executor;
+
+        private DelayedExecutor(long delay, TimeUnit unit, Executor executor) {
+            this.delay = delay;
+            this.unit = unit;
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            DelayScheduler.schedule(new DelayedTask(ContextSnapshot.capture(), requireNonNull(task, "Task is <null>."), executor), delay, unit);
+        }
     }
 
+    /**
+     * Delayed task, carrying the context snapshot captured at submission.
+     *
+     * <p>
+     * The same instance is used for both phases of the delayed execution:
+     * The timer thread runs it first to submit it to the base executor.
+     * The second run (by the base executor) reactivates the snapshot around the actual task.
+     */
+    private static final class DelayedTask implements Runnable {
+        private final ContextSnapshot snapshot;
+        private final Runnable task;
+        private final Executor executor;
+        private boolean submitted = false; // Submission to the executor happens-before the second run.
+
+        private DelayedTask(ContextSnapshot snapshot, Runnable task, Executor executor) {
+            this.snapshot = snapshot;
+            this.task = task;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            if (!submitted) {
+                submitted = true;
+                executor.execute(this);
+            } else try (ContextSnapshot.Reactivation ignored = snapshot.reactivate()) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Shared timer for timeouts and delayed executors, lazily started on first use.
+     */
+    private static final class DelayScheduler {
+        private static final ScheduledThreadPoolExecutor TIMER;
+
+        static {
+            TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "ContextAwareCompletableFutureDelayScheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            TIMER.setRemoveOnCancelPolicy(true);
+        }
+
+        private static ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return TIMER.schedule(command, delay, unit);
+        }
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.delegation.Wrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Completion service that wraps another {@linkplain CompletionService}, making sure tasks operate 'within'
+ * a reactivated {@linkplain ContextSnapshot context snapshot} that was captured from the submitting thread.
+ *
+ * <p>
+ * Typically, the delegate is an {@linkplain java.util.concurrent.ExecutorCompletionService ExecutorCompletionService}
+ * for a regular (not context-aware) executor:
+ * <pre>{@code
+ * CompletionService<Result> service = ContextAwareCompletionService.wrap(new ExecutorCompletionService<>(executor));
+ * }</pre>
+ *
+ * <p>
+ * All tasks submitted in a single {@linkplain #submitAll(Collection) scatter round} share one captured snapshot.
+ * Completed futures are returned by {@linkplain #take()} and {@linkplain #poll()} exactly as the delegate returns them.
+ *
+ * @param <V> the type of values the tasks of this service produce and consume
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public final class ContextAwareCompletionService<V> extends Wrapper<CompletionService<V>> implements CompletionService<V> {
+    private ContextAwareCompletionService(CompletionService<V> delegate) {
+        super(requireNonNull(delegate, "Delegate completion service is <null>."));
+    }
+
+    /**
+     * Wrap a {@linkplain CompletionService}, making it <em>context-aware</em>.
+     *
+     * <p>
+     * The new completion service passes all tasks to the {@code delegate} completion service,
+     * capturing a {@linkplain ContextSnapshot} from the caller thread.<br>
+     * Submitted tasks will reactivate (and close) this snapshot in the executing thread.
+     *
+     * @param delegate The delegate completion service to submit tasks to.
+     * @param <V>      the type of values the tasks of the completion service produce and consume
+     * @return The new context-aware completion service.
+     * @see ContextSnapshot#capture()
+     * @see ContextSnapshot#reactivate()
+     */
+    public static <V> ContextAwareCompletionService<V> wrap(CompletionService<V> delegate) {
+        return new ContextAwareCompletionService<>(delegate);
+    }
+
+    @Override
+    public Future<V> submit(Callable<V> task) {
+        return delegate().submit(ContextSnapshot.capture().wrap(requireNonNull(task, "Task is <null>.")));
+    }
+
+    @Override
+    public Future<V> submit(Runnable task, V result) {
+        return delegate().submit(ContextSnapshot.capture().wrap(requireNonNull(task, "Task is <null>.")), result);
+    }
+
+    /**
+     * Submits all tasks as a single scatter round, sharing one captured snapshot.
+     *
+     * <p>
+     * The results can be gathered using {@linkplain #take()} or {@linkplain #poll()}
+     * as they complete.
+     *
+     * @param tasks The tasks to submit (required, must not contain {@code null} tasks).
+     * @return The futures of the submitted tasks, in iteration order of the tasks.
+     * @throws java.util.concurrent.RejectedExecutionException if a task cannot be scheduled for execution.
+     */
+    public List<Future<V>> submitAll(Collection<? extends Callable<V>> tasks) {
+        requireNonNull(tasks, "Tasks collection is <null>.");
+        final ContextSnapshot snapshot = ContextSnapshot.capture();
+        final List<Future<V>> futures = new ArrayList<>(tasks.size());
+        for (Callable<V> task : tasks) {
+            futures.add(delegate().submit(snapshot.wrap(requireNonNull(task, "Task is <null>."))));
+        }
+        return futures;
+    }
+
+    @Override
+    public Future<V> take() throws InterruptedException {
+        return delegate().take();
+    }
+
+    @Override
+    public Future<V> poll() {
+        return delegate().poll();
+    }
+
+    @Override
+    public Future<V> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate().poll(timeout, unit);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.delegation.Wrapper;
+
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executor that wraps another {@linkplain Executor}, making sure tasks run 'within'
+ * a reactivated {@linkplain ContextSnapshot context snapshot} that was captured from the submitting thread.
+ *
+ * <p>
+ * This is a minimal alternative to {@linkplain ContextAwareExecutorService} for frameworks that accept
+ * a plain {@linkplain Executor}. Only {@linkplain #execute(Runnable)} is provided, so no futures need wrapping.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public final class ContextAwareExecutor extends Wrapper<Executor> implements Executor {
+    private ContextAwareExecutor(Executor delegate) {
+        super(requireNonNull(delegate, "Delegate executor is <null>."));
+    }
+
+    /**
+     * Wrap an {@linkplain Executor}, making it <em>context-aware</em>.
+     *
+     * <p>
+     * The new executor passes all tasks to the {@code delegate} executor,
+     * capturing a {@linkplain ContextSnapshot} from the caller thread.<br>
+     * Executed tasks will reactivate (and close) this snapshot in the executing thread.
+     *
+     * @param delegate The delegate executor to pass tasks to.
+     * @return The new context-aware executor.
+     * @see ContextSnapshot#capture()
+     * @see ContextSnapshot#reactivate()
+     */
+    public static ContextAwareExecutor wrap(Executor delegate) {
+        return new ContextAwareExecutor(delegate);
+    }
+
+    /**
+     * Executes the given task in the delegate executor, within a snapshot of the current context.
+     *
+     * @param command the task to execute
+     */
+    @Override
+    public void execute(Runnable command) {
+        delegate().execute(ContextSnapshot.capture().wrap(requireNonNull(command, "Task is <null>.")));
+    }
+}
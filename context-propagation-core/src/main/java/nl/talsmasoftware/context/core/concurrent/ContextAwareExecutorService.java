@@ -18,8 +18,21 @@ package nl.talsmasoftware.context.core.concurrent;
 import nl.talsmasoftware.context.api.ContextSnapshot;
 import nl.talsmasoftware.context.core.delegation.DelegatingExecutorService;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Executor service that wraps another {@linkplain ExecutorService}, making sure background tasks operate 'within'
@@ -38,6 +51,16 @@ import java.util.concurrent.ExecutorService;
  * {@linkplain ContextSnapshot} contains a static {@linkplain ContextSnapshot#wrap(Runnable) wrap}
  * method for {@linkplain Runnable} and {@linkplain Callable}.
  *
+ * <p>
+ * All tasks from a single {@code invokeAll} or {@code invokeAny} call share one captured snapshot.
+ * With {@linkplain #stickyReactivation() sticky reactivation}, a worker thread can keep that snapshot
+ * reactivated while it runs consecutive queued tasks sharing it.
+ *
+ * <p>
+ * Futures are returned exactly as the delegate returns them.
+ * No wrapping {@linkplain nl.talsmasoftware.context.core.delegation.DelegatingFuture DelegatingFuture}
+ * or copied list of futures is created.
+ *
  * @author Sjoerd Talsma
  */
 public final class ContextAwareExecutorService extends DelegatingExecutorService implements ExecutorService {
@@ -55,11 +78,66 @@ public final class ContextAwareExecutorService extends DelegatingExecutorService
      * @see ContextSnapshot#reactivate()
      */
     public static ContextAwareExecutorService wrap(ExecutorService delegate) {
-        return new ContextAwareExecutorService(delegate);
+        return new ContextAwareExecutorService(delegate, false);
     }
 
-    private ContextAwareExecutorService(ExecutorService delegate) {
+    /**
+     * The queue of the delegate executor, to look for tasks sharing the same snapshot
+     * ({@code null} if sticky reactivation is disabled or the delegate is not a {@linkplain ThreadPoolExecutor}).
+     */
+    private final BlockingQueue<Runnable> stickyQueue;
+
+    /**
+     * Whether reactivated snapshots may be kept active for consecutive tasks sharing the same snapshot.
+     */
+    private final boolean stickyReactivation;
+
+    private ContextAwareExecutorService(ExecutorService delegate, boolean stickyReactivation) {
         super(delegate);
+        this.stickyReactivation = stickyReactivation;
+        this.stickyQueue = stickyReactivation && delegate instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) delegate).getQueue() : null;
+    }
+
+    /**
+     * Returns a context-aware executor service that keeps a reactivated snapshot active
+     * for consecutive queued tasks sharing that same snapshot.
+     *
+     * @return A context-aware executor service with sticky reactivation.
+     * @see #stickyReactivation(boolean)
+     */
+    public ContextAwareExecutorService stickyReactivation() {
+        return stickyReactivation(true);
+    }
+
+    /**
+     * Returns a context-aware executor service that may keep a reactivated snapshot active
+     * for consecutive queued tasks sharing that same snapshot.
+     *
+     * <p>
+     * Tasks share a snapshot when they are submitted together, for instance in a single {@code invokeAll} call.
+     * When a worker thread finishes such a task and the next queued task carries the same snapshot,
+     * the worker takes that task from the queue and runs it within the reactivation that is already active.
+     * The reactivation is closed as soon as the next queued task carries a different snapshot,
+     * or the queue is drained. Worker threads therefore never return to the pool with a stale context.
+     *
+     * <p>
+     * Please note:
+     * <ul>
+     * <li>Looking ahead in the queue requires the delegate to be a {@linkplain ThreadPoolExecutor}.
+     * For other delegates, each task reactivates and closes its own snapshot as usual.
+     * <li>Tasks that are run within an already active reactivation bypass the {@code beforeExecute}
+     * and {@code afterExecute} hooks of the delegate.
+     * <li>An exception while closing a shared reactivation is logged, as it cannot be reported by
+     * the futures of the already completed tasks.
+     * </ul>
+     *
+     * @param stickyReactivation whether reactivated snapshots may be kept active for consecutive queued tasks.
+     * @return A context-aware executor service for the same delegate with sticky reactivation enabled or disabled.
+     */
+    public ContextAwareExecutorService stickyReactivation(boolean stickyReactivation) {
+        return this.stickyReactivation == stickyReactivation ? this
+                : new ContextAwareExecutorService(delegate(), stickyReactivation);
     }
 
     @Override
@@ -71,4 +149,152 @@ public final class ContextAwareExecutorService extends DelegatingExecutorService
     protected Runnable wrap(final Runnable runnable) {
         return ContextSnapshot.capture().wrap(runnable);
     }
+
+    /**
+     * Wraps all tasks in a single captured snapshot.
+     *
+     * <p>
+     * All tasks are submitted at the same time from the same thread,
+     * so capturing a separate snapshot for each task is not necessary.
+     *
+     * @param tasks The tasks to be wrapped.
+     * @param <T>   The common result type for the collection of tasks.
+     * @return A list with each task wrapped in the same context snapshot.
+     */
+    @Override
+    protected <T> List<Callable<T>> wrapTasks(Collection<? extends Callable<T>> tasks) {
+        if (tasks == null) {
+            return null;
+        }
+        final ContextSnapshot snapshot = ContextSnapshot.capture();
+        final List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(snapshot.wrap(requireNonNull(task, "Task is <null>.")));
+        }
+        return wrapped;
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        if (!stickyReactivation) {
+            return delegate().invokeAll(wrapTasks(tasks)); // futures need no wrapping
+        }
+        final List<StickyReactivationTask<T>> futures = executeSticky(tasks);
+        boolean done = false;
+        try {
+            for (Future<T> future : futures) {
+                if (!future.isDone()) {
+                    try {
+                        future.get();
+                    } catch (CancellationException | ExecutionException ignore) {
+                        // The outcome is available from the future itself.
+                    }
+                }
+            }
+            done = true;
+            return new ArrayList<>(futures);
+        } finally {
+            if (!done) {
+                cancelAll(futures);
+            }
+        }
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!stickyReactivation) {
+            return delegate().invokeAll(wrapTasks(tasks), timeout, unit); // futures need no wrapping
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        final List<StickyReactivationTask<T>> futures = executeSticky(tasks);
+        boolean done = false;
+        try {
+            for (Future<T> future : futures) {
+                if (!future.isDone()) {
+                    try {
+                        future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    } catch (CancellationException | ExecutionException ignore) {
+                        // The outcome is available from the future itself.
+                    } catch (TimeoutException timedOut) {
+                        return new ArrayList<>(futures);
+                    }
+                }
+            }
+            done = true;
+            return new ArrayList<>(futures);
+        } finally {
+            if (!done) {
+                cancelAll(futures);
+            }
+        }
+    }
+
+    /**
+     * Submits a batch of tasks, split into chunks that each run within a single reactivation.
+     *
+     * <p>
+     * One {@linkplain ContextSnapshot} is captured for the whole batch.
+     * The tasks are split into chunks of at most {@code chunkSize} tasks, in iteration order.
+     * Each chunk is submitted to the delegate executor service as one task,
+     * running its tasks sequentially within one reactivation of the snapshot.
+     *
+     * <p>
+     * If a task throws an exception, the remaining tasks of its chunk are not run
+     * and the returned future completes exceptionally. Other chunks are not affected.
+     *
+     * @param tasks     The tasks to run (required, must not contain {@code null} tasks).
+     * @param chunkSize The maximum number of tasks to run within a single reactivation (must be positive).
+     * @return A context-aware completable future that completes when all chunks are done.
+     * It propagates the captured snapshot to its completion stages.
+     * @throws IllegalArgumentException                        if {@code chunkSize} is not positive.
+     * @throws java.util.concurrent.RejectedExecutionException if a chunk cannot be scheduled for execution.
+     * @see ContextAwareCompletableFuture#allOf(ContextSnapshot, CompletableFuture[])
+     */
+    public ContextAwareCompletableFuture<Void> submitBatch(Collection<? extends Runnable> tasks, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize + ".");
+        }
+        final List<Runnable> taskList = new ArrayList<>(requireNonNull(tasks, "Tasks collection is <null>."));
+        for (Runnable task : taskList) {
+            requireNonNull(task, "Task is <null>.");
+        }
+        final ContextSnapshot snapshot = ContextSnapshot.capture();
+        final int size = taskList.size();
+        final CompletableFuture<?>[] chunks = new CompletableFuture[(size + chunkSize - 1) / chunkSize];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            final List<Runnable> chunkTasks = taskList.subList(chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize));
+            chunks[chunk] = CompletableFuture.runAsync(snapshot.wrap(() -> chunkTasks.forEach(Runnable::run)), delegate());
+        }
+        return ContextAwareCompletableFuture.allOf(snapshot, chunks);
+    }
+
+    /**
+     * Executes all tasks on the delegate as sticky reactivation tasks sharing a single captured snapshot.
+     *
+     * @param tasks The tasks to execute.
+     * @param <T>   The common result type for the collection of tasks.
+     * @return The sticky reactivation tasks that were passed to the delegate.
+     */
+    private <T> List<StickyReactivationTask<T>> executeSticky(Collection<? extends Callable<T>> tasks) {
+        final ContextSnapshot snapshot = ContextSnapshot.capture();
+        final List<StickyReactivationTask<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(new StickyReactivationTask<>(snapshot, requireNonNull(task, "Task is <null>."), stickyQueue));
+        }
+        try {
+            for (StickyReactivationTask<T> future : futures) {
+                delegate().execute(future);
+            }
+        } catch (RuntimeException | Error rejected) {
+            cancelAll(futures);
+            throw rejected;
+        }
+        return futures;
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.delegation.WrapperWithContext;
+
+import java.util.concurrent.ThreadFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@linkplain ThreadFactory} creating threads that run 'within' a reactivated
+ * {@linkplain ContextSnapshot context snapshot}, captured once when the factory was created.
+ *
+ * <p>
+ * This is intended for short-lived thread factories that start threads on behalf of a single caller,
+ * such as the thread factory of a {@code StructuredTaskScope}:
+ * <pre>{@code
+ * try (var scope = new StructuredTaskScope.ShutdownOnFailure("scope", ContextAwareThreadFactory.wrap(Thread.ofVirtual().factory()))) {
+ *     Subtask<String> user = scope.fork(() -> findUser());      // runs within the captured snapshot
+ *     Subtask<Integer> order = scope.fork(() -> fetchOrder());  // same snapshot, no new capture
+ *     ...
+ * }
+ * }</pre>
+ * The snapshot is captured only once, when the factory is {@linkplain #wrap(ThreadFactory) created}.
+ * It is reactivated when a created thread starts, and closed when the thread finishes.
+ *
+ * <p>
+ * Please do <strong>not</strong> use this factory for long-lived thread pools.
+ * Pooled threads would all run within the snapshot captured when the pool was created.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public final class ContextAwareThreadFactory extends WrapperWithContext<ThreadFactory> implements ThreadFactory {
+    private ContextAwareThreadFactory(ContextSnapshot snapshot, ThreadFactory delegate) {
+        super(snapshot, requireNonNull(delegate, "Delegate thread factory is <null>."));
+    }
+
+    /**
+     * Wrap a {@linkplain ThreadFactory}, capturing a {@linkplain ContextSnapshot} from the current thread.
+     *
+     * <p>
+     * All threads created by the returned factory run within this snapshot.
+     *
+     * @param delegate The delegate thread factory to create the threads.
+     * @return The new context-aware thread factory.
+     * @see ContextSnapshot#capture()
+     */
+    public static ContextAwareThreadFactory wrap(ThreadFactory delegate) {
+        return new ContextAwareThreadFactory(ContextSnapshot.capture(), delegate);
+    }
+
+    /**
+     * Creates a new thread from the delegate factory, running the given task within the captured snapshot.
+     *
+     * @param task the task to be run by the new thread
+     * @return the constructed thread, or {@code null} if the delegate rejected the request to create a thread
+     */
+    @Override
+    public Thread newThread(Runnable task) {
+        return delegate().newThread(snapshot().wrap(requireNonNull(task, "Task is <null>.")));
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.function.RunnableWithContext;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@linkplain ThreadPoolExecutor} that propagates a {@linkplain ContextSnapshot context snapshot}
+ * from the submitting thread to the executed task.
+ *
+ * <p>
+ * Unlike {@linkplain ContextAwareExecutorService}, this executor does not wrap submitted tasks.
+ * The snapshot is stored in the {@linkplain FutureTask} that is created for each submitted task anyway
+ * (see {@linkplain #newTaskFor(Callable)}).
+ * It is reactivated in {@linkplain #beforeExecute(Thread, Runnable)} and closed as soon as the task completes.
+ * Therefore {@linkplain #getQueue()} and {@linkplain #shutdownNow()} return the submitted tasks themselves.
+ *
+ * <p>
+ * Tasks passed directly to {@linkplain #execute(Runnable)} are not turned into a {@linkplain FutureTask},
+ * as that would change their exception handling.
+ * They are wrapped in a {@linkplain RunnableWithContext} instead.
+ *
+ * <p>
+ * Subclasses overriding {@linkplain #beforeExecute(Thread, Runnable)} or {@linkplain #afterExecute(Runnable, Throwable)}
+ * must call the {@code super} implementation.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class ContextAwareThreadPoolExecutor extends ThreadPoolExecutor {
+    private static final Logger LOGGER = Logger.getLogger(ContextAwareThreadPoolExecutor.class.getName());
+
+    /**
+     * Creates a new context-aware thread pool executor with the default thread factory and rejected execution handler.
+     *
+     * @param corePoolSize    the number of threads to keep in the pool, even if they are idle
+     * @param maximumPoolSize the maximum number of threads to allow in the pool
+     * @param keepAliveTime   the maximum time that excess idle threads will wait for new tasks before terminating
+     * @param unit            the time unit for the {@code keepAliveTime} argument
+     * @param workQueue       the queue to use for holding tasks before they are executed
+     * @see ThreadPoolExecutor#ThreadPoolExecutor(int, int, long, TimeUnit, BlockingQueue)
+     */
+    public ContextAwareThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue);
+    }
+
+    /**
+     * Creates a new context-aware thread pool executor with the default rejected execution handler.
+     *
+     * @param corePoolSize    the number of threads to keep in the pool, even if they are idle
+     * @param maximumPoolSize the maximum number of threads to allow in the pool
+     * @param keepAliveTime   the maximum time that excess idle threads will wait for new tasks before terminating
+     * @param unit            the time unit for the {@code keepAliveTime} argument
+     * @param workQueue       the queue to use for holding tasks before they are executed
+     * @param threadFactory   the factory to use when the executor creates a new thread
+     * @see ThreadPoolExecutor#ThreadPoolExecutor(int, int, long, TimeUnit, BlockingQueue, ThreadFactory)
+     */
+    public ContextAwareThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+    }
+
+    /**
+     * Creates a new context-aware thread pool executor with the default thread factory.
+     *
+     * @param corePoolSize    the number of threads to keep in the pool, even if they are idle
+     * @param maximumPoolSize the maximum number of threads to allow in the pool
+     * @param keepAliveTime   the maximum time that excess idle threads will wait for new tasks before terminating
+     * @param unit            the time unit for the {@code keepAliveTime} argument
+     * @param workQueue       the queue to use for holding tasks before they are executed
+     * @param handler         the handler to use when execution is blocked
+     * @see ThreadPoolExecutor#ThreadPoolExecutor(int, int, long, TimeUnit, BlockingQueue, RejectedExecutionHandler)
+     */
+    public ContextAwareThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue, RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, handler);
+    }
+
+    /**
+     * Creates a new context-aware thread pool executor.
+     *
+     * @param corePoolSize    the number of threads to keep in the pool, even if they are idle
+     * @param maximumPoolSize the maximum number of threads to allow in the pool
+     * @param keepAliveTime   the maximum time that excess idle threads will wait for new tasks before terminating
+     * @param unit            the time unit for the {@code keepAliveTime} argument
+     * @param workQueue       the queue to use for holding tasks before they are executed
+     * @param threadFactory   the factory to use when the executor creates a new thread
+     * @param handler         the handler to use when execution is blocked
+     * @see ThreadPoolExecutor#ThreadPoolExecutor(int, int, long, TimeUnit, BlockingQueue, ThreadFactory, RejectedExecutionHandler)
+     */
+    public ContextAwareThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+                                          RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    /**
+     * Returns a task for the given callable, carrying a {@linkplain ContextSnapshot#capture() new context snapshot}.
+     *
+     * @param callable the callable task being wrapped
+     * @param <T>      the type of the callable's result
+     * @return a task carrying a snapshot of the submitting thread
+     */
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new FutureTaskWithContext<>(ContextSnapshot.capture(), callable);
+    }
+
+    /**
+     * Returns a task for the given runnable and default value,
+     * carrying a {@linkplain ContextSnapshot#capture() new context snapshot}.
+     *
+     * @param runnable the runnable task being wrapped
+     * @param value    the default value for the returned future
+     * @param <T>      the type of the given value
+     * @return a task carrying a snapshot of the submitting thread
+     */
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new FutureTaskWithContext<>(ContextSnapshot.capture(), Executors.callable(runnable, value));
+    }
+
+    /**
+     * Executes the given task, within a snapshot of the current context.
+     *
+     * <p>
+     * Tasks created by {@linkplain #newTaskFor(Callable)} already carry their snapshot and are executed as-is.
+     * Other tasks are wrapped in a {@linkplain RunnableWithContext}.
+     *
+     * @param command the task to execute
+     */
+    @Override
+    public void execute(Runnable command) {
+        super.execute(command == null || command instanceof FutureTaskWithContext
+                ? command
+                : new RunnableWithContext(ContextSnapshot.capture(), command));
+    }
+
+    /**
+     * Reactivates the context snapshot of the task that is about to be executed.
+     *
+     * <p>
+     * If the snapshot cannot be reactivated, the task is completed exceptionally instead of being run.
+     *
+     * @param thread the thread that will run the task
+     * @param task   the task that will be executed
+     */
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        super.beforeExecute(thread, task);
+        if (task instanceof FutureTaskWithContext) {
+            ((FutureTaskWithContext<?>) task).reactivate();
+        }
+    }
+
+    /**
+     * Makes sure the reactivated context snapshot of the executed task is closed.
+     *
+     * <p>
+     * Normally, the reactivation is already closed when the task completed.
+     * Tasks that were cancelled while running may not have closed it yet.
+     *
+     * @param task      the task that was executed
+     * @param throwable the exception that caused termination, or {@code null}
+     */
+    @Override
+    protected void afterExecute(Runnable task, Throwable throwable) {
+        try {
+            if (task instanceof FutureTaskWithContext) try {
+                ((FutureTaskWithContext<?>) task).closeReactivation();
+            } catch (RuntimeException closeException) {
+                LOGGER.log(Level.WARNING, closeException, () -> "Error closing reactivated context for " + task + ".");
+            }
+        } finally {
+            super.afterExecute(task, throwable);
+        }
+    }
+
+    /**
+     * FutureTask carrying the context snapshot of the submitting thread.
+     *
+     * <p>
+     * The reactivation is closed <em>before</em> the result is published,
+     * so an exception while closing can still be reported through the future.
+     *
+     * @param <V> the result type of the task
+     */
+    private static final class FutureTaskWithContext<V> extends FutureTask<V> {
+        private final ContextSnapshot snapshot;
+        private ContextSnapshot.Reactivation reactivation; // only accessed by the thread running the task
+
+        private FutureTaskWithContext(ContextSnapshot snapshot, Callable<V> callable) {
+            super(callable);
+            this.snapshot = snapshot;
+        }
+
+        private void reactivate() {
+            try {
+                reactivation = snapshot.reactivate();
+            } catch (RuntimeException reactivationException) {
+                setException(reactivationException); // run() will not call the callable for a completed task
+            }
+        }
+
+        private void closeReactivation() {
+            final ContextSnapshot.Reactivation toClose = reactivation;
+            if (toClose != null) {
+                reactivation = null;
+                toClose.close();
+            }
+        }
+
+        @Override
+        protected void set(V result) {
+            try {
+                closeReactivation();
+            } catch (RuntimeException closeException) {
+                super.setException(closeException);
+                return;
+            }
+            super.set(result);
+        }
+
+        @Override
+        protected void setException(Throwable throwable) {
+            try {
+                closeReactivation();
+            } catch (RuntimeException closeException) {
+                throwable.addSuppressed(closeException);
+            }
+            super.setException(throwable);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Task that keeps its reactivated {@linkplain ContextSnapshot} active for queued tasks sharing the same snapshot.
+ *
+ * <p>
+ * After running its own callable, the task inspects the head of the executor queue.
+ * As long as the next queued task carries the <em>same</em> snapshot instance, it is taken from the queue
+ * and run directly within the reactivation that is already active.<br>
+ * The reactivation is closed as soon as the next queued task carries a different snapshot or the queue is drained,
+ * so the worker thread never returns to the pool with a stale context.
+ *
+ * @param <V> The result type of the task.
+ * @author Sjoerd Talsma
+ */
+final class StickyReactivationTask<V> extends FutureTask<V> {
+    private static final Logger LOGGER = Logger.getLogger(StickyReactivationTask.class.getName());
+
+    private final ContextSnapshot snapshot;
+    private final Queue<Runnable> queue;
+
+    /**
+     * Creates a new sticky reactivation task.
+     *
+     * @param snapshot The snapshot to reactivate around the callable (required).
+     * @param callable The callable to call within the reactivated snapshot (required).
+     * @param queue    The queue of the executor running the task (optional).
+     *                 If {@code null}, the task will simply reactivate and close its snapshot around the callable.
+     */
+    StickyReactivationTask(ContextSnapshot snapshot, Callable<V> callable, Queue<Runnable> queue) {
+        super(callable);
+        this.snapshot = requireNonNull(snapshot, "Context snapshot is <null>.");
+        this.queue = queue;
+    }
+
+    @Override
+    public void run() {
+        if (isDone()) {
+            return; // No need to reactivate a snapshot for cancelled tasks.
+        }
+        final ContextSnapshot.Reactivation reactivation;
+        try {
+            reactivation = snapshot.reactivate();
+        } catch (RuntimeException reactivationException) {
+            setException(reactivationException);
+            return;
+        }
+        try {
+            super.run();
+            for (StickyReactivationTask<?> next = takeNextWithSameSnapshot(); next != null; next = takeNextWithSameSnapshot()) {
+                LOGGER.log(Level.FINEST, "Running {0} within already reactivated {1}.", new Object[]{next, snapshot});
+                next.runWithinReactivation();
+            }
+        } finally {
+            closeReactivation(reactivation);
+        }
+    }
+
+    private void runWithinReactivation() {
+        super.run();
+    }
+
+    /**
+     * Takes the next task from the queue if it carries the same snapshot as this task.
+     *
+     * @return The next task to run within the current reactivation or {@code null} if there is none.
+     */
+    private StickyReactivationTask<?> takeNextWithSameSnapshot() {
+        if (queue == null || Thread.currentThread().isInterrupted()) {
+            return null;
+        }
+        final Runnable next = queue.peek();
+        if (next instanceof StickyReactivationTask
+                && ((StickyReactivationTask<?>) next).snapshot == snapshot
+                && queue.remove(next)) {
+            return (StickyReactivationTask<?>) next;
+        }
+        return null;
+    }
+
+    /**
+     * Closes the reactivation.
+     *
+     * <p>
+     * Tasks that shared the reactivation have already completed, so an exception while closing
+     * cannot be reported through their futures anymore. It is logged instead.
+     *
+     * @param reactivation The reactivation to close.
+     */
+    private void closeReactivation(ContextSnapshot.Reactivation reactivation) {
+        try {
+            reactivation.close();
+        } catch (RuntimeException closeException) {
+            LOGGER.log(Level.WARNING, closeException, () -> "Error closing " + reactivation + " of " + snapshot + ".");
+        }
+    }
+}
@@ -17,6 +17,8 @@ package nl.talsmasoftware.context.core.delegation;
 
 import nl.talsmasoftware.context.api.ContextSnapshot;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
@@ -29,6 +31,12 @@ import static java.util.Objects.requireNonNull;
  * @author Sjoerd Talsma
  */
 public abstract class WrapperWithContext<T> extends Wrapper<T> {
+    /**
+     * Publishes the snapshot obtained from the supplier without locking.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<WrapperWithContext, ContextSnapshot> SNAPSHOT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(WrapperWithContext.class, ContextSnapshot.class, "snapshot");
 
     private final Supplier<ContextSnapshot> supplier;
     @SuppressWarnings("java:S3077") // Context snapshots are immutable. Volatile is safe to use here.
@@ -70,21 +78,67 @@ public abstract class WrapperWithContext<T> extends Wrapper<T> {
     }
 
     /**
-     * Calls the supplier for the context snapshot, making sure it is called only once for this wrapper instance.
+     * Wraps the delegate, sharing the context snapshot of another wrapper.
+     *
+     * <p>
+     * This is intended for composed wrappers, e.g. {@code function.andThen(after)},
+     * so calling the composed wrapper needs only a single reactivation of the snapshot.<br>
+     * If the snapshot of the other wrapper is not known yet, it is obtained from the other wrapper when needed.
+     *
+     * @param source   The wrapper to share the context snapshot with (required).
+     * @param delegate The delegate object to be wrapped.
+     */
+    protected WrapperWithContext(WrapperWithContext<?> source, T delegate) {
+        super(delegate);
+        requireNonNull(source, () -> "No wrapper to share the context snapshot with provided to " + this + '.');
+        this.snapshot = source.snapshot;
+        this.supplier = this.snapshot == null ? source::snapshot : null;
+    }
+
+    /**
+     * Calls the supplier for the context snapshot, making sure only one snapshot is used for this wrapper instance.
+     *
+     * <p>
+     * The snapshot is published without locking.
+     * If multiple threads call this method concurrently before the snapshot is known,
+     * the supplier may be called more than once, but all threads will use the snapshot that was published first.
      *
      * @return The snapshot value.
      */
     protected ContextSnapshot snapshot() {
-        // Note: Double-checked locking works fine in modern JDKs
-        // Discussion here: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590407
-        if (snapshot == null && supplier != null) {
-            synchronized (this) {
-                if (snapshot == null) {
-                    snapshot = requireNonNull(supplier.get(), "Context snapshot is <null>.");
-                }
-            }
+        final ContextSnapshot result = snapshot;
+        if (result != null || supplier == null) {
+            return result;
         }
-        return snapshot;
+        final ContextSnapshot supplied = requireNonNull(supplier.get(), "Context snapshot is <null>.");
+        return SNAPSHOT_UPDATER.compareAndSet(this, null, supplied) ? supplied : snapshot;
+    }
+
+    /**
+     * Returns whether this wrapper has exactly the specified snapshot.
+     *
+     * <p>
+     * Unlike {@linkplain #snapshot()}, this does <em>not</em> call the snapshot supplier.
+     * A wrapper whose snapshot supplier was not called yet never has the specified snapshot.
+     *
+     * @param snapshot The snapshot to compare with.
+     * @return {@code true} if the snapshot of this wrapper is known and is the same instance as the specified snapshot.
+     */
+    protected boolean hasSnapshot(ContextSnapshot snapshot) {
+        return snapshot != null && snapshot == this.snapshot;
+    }
+
+    /**
+     * {@linkplain ContextSnapshot#reactivate() Reactivates} the {@linkplain #snapshot() snapshot} of this wrapper
+     * before the delegate is called.
+     *
+     * <p>
+     * Subclasses may override this, for instance to reuse a reactivation that is already in place.
+     *
+     * @return The reactivation to close from the same thread after the delegate has been called.
+     */
+    protected ContextSnapshot.Reactivation reactivate() {
+        return snapshot().reactivate();
     }
 
     /**
@@ -94,16 +148,18 @@ public abstract class WrapperWithContext<T> extends Wrapper<T> {
      * The hash code is based on:
      * <ul>
      *     <li>The hash code of the delegate.
-     *     <li>The hash code of the snapshot.
+     *     <li>The hash code of the snapshot supplier, or the snapshot if it was provided directly.
      * </ul>
      *
-     * @return Hashcode based on the hashcodes of both the delegate and context snapshot.
+     * <p>
+     * The snapshot supplier is <em>not</em> called to calculate the hash code.
+     *
+     * @return Hashcode based on the hashcodes of both the delegate and context snapshot (supplier).
      * @see #delegate()
-     * @see #snapshot()
      */
     @Override
     public int hashCode() {
-        return 31 * super.hashCode() + snapshot().hashCode();
+        return 31 * super.hashCode() + Objects.hashCode(snapshotSource());
     }
 
     /**
@@ -114,17 +170,29 @@ public abstract class WrapperWithContext<T> extends Wrapper<T> {
      * <ul>
      *     <li>The other object is an instance of the same {@code Wrapper} class.
      *     <li>The delegate is equal to the delegate of the other object.
-     *     <li>The context snapshot is equal to the snapshot of the other context object.</li>
+     *     <li>The context snapshot supplier is equal to the snapshot supplier of the other context object,
+     *     or if both were provided directly, the context snapshot is equal to the snapshot of the other context object.</li>
      * </ul>
      *
+     * <p>
+     * The snapshot supplier is <em>not</em> called to compare the wrappers.
+     *
      * @param other The other object to compare with.
-     * @return {@code true} if the other object is the same wrapper class and its delegate and context snapshots are equal.
+     * @return {@code true} if the other object is the same wrapper class and its delegate and context snapshots
+     * (or snapshot suppliers) are equal.
      * @see #delegate()
-     * @see #snapshot()
      */
     @Override
     public boolean equals(Object other) {
-        return this == other || (super.equals(other) && snapshot().equals(((WrapperWithContext<?>) other).snapshot()));
+        return this == other || (super.equals(other)
+                && Objects.equals(snapshotSource(), ((WrapperWithContext<?>) other).snapshotSource()));
+    }
+
+    /**
+     * @return The snapshot supplier if there is one, otherwise the snapshot that was provided directly.
+     */
+    private Object snapshotSource() {
+        return supplier != null ? supplier : snapshot;
     }
 
     /**
@@ -137,5 +205,4 @@ public abstract class WrapperWithContext<T> extends Wrapper<T> {
         return snapshot == null ? super.toString()
                 : getClass().getSimpleName() + "{delegate=" + delegate() + ", " + snapshot + "}";
     }
-
 }
@@ -70,7 +70,7 @@ public class BiConsumerWithContext<T, U> extends WrapperWithContextAndConsumer<B
      *                         (optional, may be {@code null}).
      */
     public BiConsumerWithContext(ContextSnapshot snapshot, BiConsumer<T, U> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(BiConsumerWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -90,6 +90,16 @@ public class BiConsumerWithContext<T, U> extends WrapperWithContextAndConsumer<B
         super(snapshotSupplier, delegate, snapshotConsumer);
     }
 
+    /**
+     * Creates a composed consumer sharing the context snapshot and snapshot consumer of the source.
+     *
+     * @param source   The source to share the context snapshot and snapshot consumer with.
+     * @param delegate The composed delegate.
+     */
+    private BiConsumerWithContext(BiConsumerWithContext<?, ?> source, BiConsumer<T, U> delegate) {
+        super(source, delegate);
+    }
+
     /**
      * Accept the values by passing them to the delegate bi-consumer within a reactivated context snapshot.
      *
@@ -108,7 +118,7 @@ public class BiConsumerWithContext<T, U> extends WrapperWithContextAndConsumer<B
      */
     @Override
     public void accept(T in1, U in2) {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating accept method with {0} to {1}.", new Object[]{context, delegate()});
                 delegate().accept(in1, in2);
@@ -143,17 +153,10 @@ public class BiConsumerWithContext<T, U> extends WrapperWithContextAndConsumer<B
     @Override
     public BiConsumer<T, U> andThen(BiConsumer<? super T, ? super U> after) {
         requireNonNull(after, "Cannot post-process with after bi-consumer <null>.");
-        return (l, r) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating andThen method with {0} to {1}.", new Object[]{context, delegate()});
-                    delegate().accept(l, r);
-                    after.accept(l, r);
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new BiConsumerWithContext<>(this, (l, r) -> {
+            delegate().accept(l, r);
+            after.accept(l, r);
+        });
     }
 
 }
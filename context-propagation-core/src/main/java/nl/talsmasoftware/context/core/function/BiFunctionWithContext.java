@@ -80,7 +80,7 @@ public class BiFunctionWithContext<T, U, R> extends WrapperWithContextAndConsume
      *                         (optional, may be {@code null}).
      */
     public BiFunctionWithContext(ContextSnapshot snapshot, BiFunction<T, U, R> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(BiFunctionWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -100,6 +100,16 @@ public class BiFunctionWithContext<T, U, R> extends WrapperWithContextAndConsume
         super(snapshotSupplier, delegate, snapshotConsumer);
     }
 
+    /**
+     * Creates a composed function sharing the context snapshot and snapshot consumer of the source.
+     *
+     * @param source   The source to share the context snapshot and snapshot consumer with.
+     * @param delegate The composed delegate.
+     */
+    private BiFunctionWithContext(BiFunctionWithContext<?, ?, ?> source, BiFunction<T, U, R> delegate) {
+        super(source, delegate);
+    }
+
     /**
      * Applies the delegate bi-function within reactivated context snapshot.
      *
@@ -121,7 +131,7 @@ public class BiFunctionWithContext<T, U, R> extends WrapperWithContextAndConsume
      */
     @Override
     public R apply(T in1, U in2) {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating apply method with {0} to {1}.", new Object[]{context, delegate()});
                 return delegate().apply(in1, in2);
@@ -154,16 +164,7 @@ public class BiFunctionWithContext<T, U, R> extends WrapperWithContextAndConsume
     @Override
     public <V> BiFunction<T, U, V> andThen(Function<? super R, ? extends V> after) {
         requireNonNull(after, "Cannot post-process bi-function with after function <null>.");
-        return (T in1, U in2) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating andThen method with {0} to {1}.", new Object[]{context, delegate()});
-                    return after.apply(delegate().apply(in1, in2));
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new BiFunctionWithContext<>(this, (T in1, U in2) -> after.apply(delegate().apply(in1, in2)));
     }
 
 }
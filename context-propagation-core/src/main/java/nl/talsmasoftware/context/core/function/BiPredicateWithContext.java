@@ -78,7 +78,7 @@ public class BiPredicateWithContext<T, U> extends WrapperWithContextAndConsumer<
      *                         (optional, may be {@code null}).
      */
     public BiPredicateWithContext(ContextSnapshot snapshot, BiPredicate<T, U> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(BiPredicateWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -98,6 +98,16 @@ public class BiPredicateWithContext<T, U> extends WrapperWithContextAndConsumer<
         super(snapshotSupplier, delegate, snapshotConsumer);
     }
 
+    /**
+     * Creates a composed predicate sharing the context snapshot and snapshot consumer of the source.
+     *
+     * @param source   The source to share the context snapshot and snapshot consumer with.
+     * @param delegate The composed delegate.
+     */
+    private BiPredicateWithContext(BiPredicateWithContext<?, ?> source, BiPredicate<T, U> delegate) {
+        super(source, delegate);
+    }
+
     /**
      * Test the delegate bi-predicate in a reactivated context snapshot.
      *
@@ -118,7 +128,7 @@ public class BiPredicateWithContext<T, U> extends WrapperWithContextAndConsumer<
      */
     @Override
     public boolean test(T in1, U in2) {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating test method with {0} to {1}.", new Object[]{context, delegate()});
                 return delegate().test(in1, in2);
@@ -158,16 +168,7 @@ public class BiPredicateWithContext<T, U> extends WrapperWithContextAndConsumer<
     @Override
     public BiPredicate<T, U> and(BiPredicate<? super T, ? super U> other) {
         requireNonNull(other, "Cannot combine bi-predicate with 'and' <null>.");
-        return (T in1, U in2) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating 'and' method with {0} to {1}.", new Object[]{context, delegate()});
-                    return delegate().test(in1, in2) && other.test(in1, in2);
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new BiPredicateWithContext<>(this, (T in1, U in2) -> delegate().test(in1, in2) && other.test(in1, in2));
     }
 
     /**
@@ -199,15 +200,6 @@ public class BiPredicateWithContext<T, U> extends WrapperWithContextAndConsumer<
     @Override
     public BiPredicate<T, U> or(BiPredicate<? super T, ? super U> other) {
         requireNonNull(other, "Cannot combine bi-predicate with 'or' <null>.");
-        return (T in1, U in2) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating 'or' method with {0} to {1}.", new Object[]{context, delegate()});
-                    return delegate().test(in1, in2) || other.test(in1, in2);
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new BiPredicateWithContext<>(this, (T in1, U in2) -> delegate().test(in1, in2) || other.test(in1, in2));
     }
 }
@@ -74,7 +74,7 @@ public class BooleanSupplierWithContext extends WrapperWithContextAndConsumer<Bo
      *                         (optional, may be {@code null}).
      */
     public BooleanSupplierWithContext(ContextSnapshot snapshot, BooleanSupplier delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(BooleanSupplierWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -110,7 +110,7 @@ public class BooleanSupplierWithContext extends WrapperWithContextAndConsumer<Bo
      */
     @Override
     public boolean getAsBoolean() {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating getAsBoolean method with {0} to {1}.", new Object[]{context, delegate()});
                 return delegate().getAsBoolean();
@@ -68,7 +68,7 @@ public class ConsumerWithContext<T> extends WrapperWithContextAndConsumer<Consum
      *                         (optional, may be {@code null}).
      */
     public ConsumerWithContext(ContextSnapshot snapshot, Consumer<T> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(ConsumerWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -88,6 +88,16 @@ public class ConsumerWithContext<T> extends WrapperWithContextAndConsumer<Consum
         super(snapshotSupplier, delegate, snapshotConsumer);
     }
 
+    /**
+     * Creates a composed consumer sharing the context snapshot and snapshot consumer of the source.
+     *
+     * @param source   The source to share the context snapshot and snapshot consumer with.
+     * @param delegate The composed delegate.
+     */
+    private ConsumerWithContext(ConsumerWithContext<?> source, Consumer<T> delegate) {
+        super(source, delegate);
+    }
+
     /**
      * Accept the value by passing it to the delegate consumer within a reactivated context snapshot.
      *
@@ -105,7 +115,7 @@ public class ConsumerWithContext<T> extends WrapperWithContextAndConsumer<Consum
      */
     @Override
     public void accept(T value) {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating accept method with {0} to {1}.", new Object[]{context, delegate()});
                 delegate().accept(value);
@@ -140,16 +150,9 @@ public class ConsumerWithContext<T> extends WrapperWithContextAndConsumer<Consum
     @Override
     public Consumer<T> andThen(Consumer<? super T> after) {
         requireNonNull(after, "Cannot follow ConsumerWithContext with after consumer <null>.");
-        return (T t) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating andThen method with {0} to {1}.", new Object[]{context, delegate()});
-                    delegate().accept(t);
-                    after.accept(t);
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new ConsumerWithContext<>(this, (T t) -> {
+            delegate().accept(t);
+            after.accept(t);
+        });
     }
 }
@@ -78,7 +78,7 @@ public class FunctionWithContext<T, R> extends WrapperWithContextAndConsumer<Fun
      *                         (optional, may be {@code null}).
      */
     public FunctionWithContext(ContextSnapshot snapshot, Function<T, R> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(FunctionWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -98,6 +98,16 @@ public class FunctionWithContext<T, R> extends WrapperWithContextAndConsumer<Fun
         super(snapshotSupplier, delegate, snapshotConsumer);
     }
 
+    /**
+     * Creates a composed function sharing the context snapshot and snapshot consumer of the source.
+     *
+     * @param source   The source to share the context snapshot and snapshot consumer with.
+     * @param delegate The composed delegate.
+     */
+    private FunctionWithContext(FunctionWithContext<?, ?> source, Function<T, R> delegate) {
+        super(source, delegate);
+    }
+
     /**
      * Applies the delegate function within reactivated context snapshot.
      *
@@ -117,7 +127,7 @@ public class FunctionWithContext<T, R> extends WrapperWithContextAndConsumer<Fun
      * @throws RuntimeException if the delegate function throws a runtime exception.
      */
     public R apply(T in) {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating apply method with {0} to {1}.", new Object[]{context, delegate()});
                 return delegate().apply(in);
@@ -150,16 +160,7 @@ public class FunctionWithContext<T, R> extends WrapperWithContextAndConsumer<Fun
     @Override
     public <V> Function<V, R> compose(Function<? super V, ? extends T> before) {
         requireNonNull(before, "Cannot compose with before function <null>.");
-        return (V v) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating compose method with {0} to {1}.", new Object[]{context, delegate()});
-                    return delegate().apply(before.apply(v));
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new FunctionWithContext<>(this, (V v) -> delegate().apply(before.apply(v)));
     }
 
     /**
@@ -185,15 +186,6 @@ public class FunctionWithContext<T, R> extends WrapperWithContextAndConsumer<Fun
     @Override
     public <V> Function<T, V> andThen(Function<? super R, ? extends V> after) {
         requireNonNull(after, "Cannot transform with after function <null>.");
-        return (T in) -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating andThen method with {0} to {1}.", new Object[]{context, delegate()});
-                    return after.apply(delegate().apply(in));
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new FunctionWithContext<>(this, (T in) -> after.apply(delegate().apply(in)));
     }
 }
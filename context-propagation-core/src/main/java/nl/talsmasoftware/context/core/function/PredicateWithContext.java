@@ -77,7 +77,7 @@ public class PredicateWithContext<T> extends WrapperWithContextAndConsumer<Predi
      *                         (optional, may be {@code null}).
      */
     public PredicateWithContext(ContextSnapshot snapshot, Predicate<T> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(PredicateWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -97,6 +97,16 @@ public class PredicateWithContext<T> extends WrapperWithContextAndConsumer<Predi
         super(snapshotSupplier, delegate, snapshotConsumer);
     }
 
+    /**
+     * Creates a composed predicate sharing the context snapshot and snapshot consumer of the source.
+     *
+     * @param source   The source to share the context snapshot and snapshot consumer with.
+     * @param delegate The composed delegate.
+     */
+    private PredicateWithContext(PredicateWithContext<?> source, Predicate<T> delegate) {
+        super(source, delegate);
+    }
+
     /**
      * Test the delegate predicate in a reactivated context snapshot.
      *
@@ -116,7 +126,7 @@ public class PredicateWithContext<T> extends WrapperWithContextAndConsumer<Predi
      */
     @Override
     public boolean test(T value) {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating test method with {0} to {1}.", new Object[]{context, delegate()});
                 return delegate().test(value);
@@ -156,16 +166,7 @@ public class PredicateWithContext<T> extends WrapperWithContextAndConsumer<Predi
     @Override
     public Predicate<T> and(Predicate<? super T> other) {
         requireNonNull(other, "Cannot combine predicate with 'and' <null>.");
-        return subject -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating 'and' method with {0} to {1}.", new Object[]{context, delegate()});
-                    return delegate().test(subject) && other.test(subject);
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new PredicateWithContext<>(this, subject -> delegate().test(subject) && other.test(subject));
     }
 
     /**
@@ -197,15 +198,6 @@ public class PredicateWithContext<T> extends WrapperWithContextAndConsumer<Predi
     @Override
     public Predicate<T> or(Predicate<? super T> other) {
         requireNonNull(other, "Cannot combine predicate with 'or' <null>.");
-        return subject -> {
-            try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
-                try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
-                    logger.log(Level.FINEST, "Delegating 'or' method with {0} to {1}.", new Object[]{context, delegate()});
-                    return delegate().test(subject) || other.test(subject);
-                } finally {
-                    captureResultSnapshotIfRequired();
-                }
-            }
-        };
+        return new PredicateWithContext<>(this, subject -> delegate().test(subject) || other.test(subject));
     }
 }
@@ -64,7 +64,7 @@ public class RunnableWithContext extends WrapperWithContextAndConsumer<Runnable>
      *                         (optional, may be {@code null}).
      */
     public RunnableWithContext(ContextSnapshot snapshot, Runnable delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(RunnableWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -99,7 +99,7 @@ public class RunnableWithContext extends WrapperWithContextAndConsumer<Runnable>
      */
     @Override
     public void run() {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.finest(() -> "Delegating run method with " + context + " to " + delegate() + ".");
                 delegate().run();
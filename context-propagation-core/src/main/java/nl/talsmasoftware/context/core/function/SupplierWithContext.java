@@ -66,7 +66,7 @@ public class SupplierWithContext<T> extends WrapperWithContextAndConsumer<Suppli
      *                         (optional, may be {@code null}).
      */
     public SupplierWithContext(ContextSnapshot snapshot, Supplier<T> delegate, Consumer<ContextSnapshot> snapshotConsumer) {
-        super(snapshot, delegate, snapshotConsumer);
+        super(snapshot, unwrapSameSnapshot(SupplierWithContext.class, snapshot, delegate), snapshotConsumer);
     }
 
     /**
@@ -102,7 +102,7 @@ public class SupplierWithContext<T> extends WrapperWithContextAndConsumer<Suppli
      */
     @Override
     public T get() {
-        try (ContextSnapshot.Reactivation context = snapshot().reactivate()) {
+        try (ContextSnapshot.Reactivation context = reactivate()) {
             try { // inner 'try' is needed: https://github.com/talsma-ict/context-propagation/pull/56#discussion_r201590623
                 logger.log(Level.FINEST, "Delegating get method with {0} to {1}.", new Object[]{context, delegate()});
                 return delegate().get();
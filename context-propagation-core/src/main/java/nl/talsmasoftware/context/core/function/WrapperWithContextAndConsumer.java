@@ -48,6 +48,12 @@ abstract class WrapperWithContextAndConsumer<T> extends WrapperWithContext<T> {
      */
     protected final Consumer<ContextSnapshot> contextSnapshotConsumer;
 
+    /**
+     * Whether the resulting snapshot is {@linkplain ContextSnapshot#recapture() recaptured}
+     * from the reactivated snapshot, instead of being captured from scratch.
+     */
+    private final boolean recaptureChangesOnly;
+
     /**
      * A new wrapper around a delegate object with a {@linkplain ContextSnapshot}.
      *
@@ -58,11 +64,17 @@ abstract class WrapperWithContextAndConsumer<T> extends WrapperWithContext<T> {
     protected WrapperWithContextAndConsumer(ContextSnapshot snapshot, T delegate, Consumer<ContextSnapshot> contextSnapshotConsumer) {
         super(snapshot, delegate);
         this.contextSnapshotConsumer = contextSnapshotConsumer;
+        this.recaptureChangesOnly = false;
     }
 
     /**
      * A new wrapper around a delegate object with a {@linkplain ContextSnapshot}.
      *
+     * <p>
+     * This constructor is intended for a snapshot 'holder' object that passes the resulting snapshot
+     * from one call to the next, such as chained completion stages.
+     * Therefore, the resulting snapshot only recaptures the context values that were changed by the delegate.
+     *
      * @param contextSnapshotSupplier Supplies the context snapshot to be reactivated around the delegate (required).
      * @param delegate                The delegate action to perform.
      * @param contextSnapshotConsumer An optional post-action consumer to receive a new context snapshot taken after the action.
@@ -70,6 +82,20 @@ abstract class WrapperWithContextAndConsumer<T> extends WrapperWithContext<T> {
     protected WrapperWithContextAndConsumer(Supplier<ContextSnapshot> contextSnapshotSupplier, T delegate, Consumer<ContextSnapshot> contextSnapshotConsumer) {
         super(contextSnapshotSupplier, delegate);
         this.contextSnapshotConsumer = contextSnapshotConsumer;
+        this.recaptureChangesOnly = true;
+    }
+
+    /**
+     * A new wrapper around a delegate object, sharing the {@linkplain ContextSnapshot} and the context snapshot consumer
+     * of another wrapper.
+     *
+     * @param source   The wrapper to share the context snapshot and consumer with (required).
+     * @param delegate The delegate action to perform.
+     */
+    protected WrapperWithContextAndConsumer(WrapperWithContextAndConsumer<?> source, T delegate) {
+        super(source, delegate);
+        this.contextSnapshotConsumer = source.contextSnapshotConsumer;
+        this.recaptureChangesOnly = source.recaptureChangesOnly;
     }
 
     /**
@@ -78,15 +104,44 @@ abstract class WrapperWithContextAndConsumer<T> extends WrapperWithContext<T> {
      * <p>
      * If there is no {@code contextSnapshotConsumer},
      * no unnecessary snapshot will be {@linkplain ContextSnapshot#capture() captured}.
+     *
+     * <p>
+     * If this wrapper was created with a snapshot supplier, the new snapshot is
+     * {@linkplain ContextSnapshot#recapture() recaptured} from the reactivated snapshot, reusing unchanged values.
+     * If the delegate did not change any context value, the reactivated snapshot itself is passed to the consumer.
      */
     protected void captureResultSnapshotIfRequired() {
         if (contextSnapshotConsumer != null) {
-            ContextSnapshot resultSnapshot = ContextSnapshot.capture();
+            ContextSnapshot resultSnapshot = recaptureChangesOnly ? snapshot().recapture() : ContextSnapshot.capture();
             logger.log(Level.FINEST, "Captured context snapshot after delegation: {0}", resultSnapshot);
             contextSnapshotConsumer.accept(resultSnapshot);
         }
     }
 
+    /**
+     * Unwraps a delegate that is a wrapper of the specified type for the very same snapshot.
+     *
+     * <p>
+     * Wrapping a wrapper for the same snapshot would reactivate the snapshot from within its own reactivation.
+     * The inner wrapper is only unwrapped if it has no snapshot consumer, so no resulting snapshot gets lost.
+     *
+     * @param wrapperType The exact wrapper type to unwrap.
+     * @param snapshot    The snapshot of the outer wrapper.
+     * @param delegate    The delegate for the outer wrapper.
+     * @param <D>         The type of the delegate.
+     * @return The delegate of the inner wrapper if it could be unwrapped, otherwise the delegate itself.
+     */
+    @SuppressWarnings("unchecked") // the wrapper type implements the same interface as its delegate.
+    static <D> D unwrapSameSnapshot(Class<?> wrapperType, ContextSnapshot snapshot, D delegate) {
+        if (delegate != null && delegate.getClass() == wrapperType) {
+            final WrapperWithContextAndConsumer<D> inner = (WrapperWithContextAndConsumer<D>) delegate;
+            if (inner.contextSnapshotConsumer == null && inner.hasSnapshot(snapshot)) {
+                return inner.delegate();
+            }
+        }
+        return delegate;
+    }
+
     @Override
     public int hashCode() {
         return 31 * super.hashCode() + Objects.hashCode(contextSnapshotConsumer);
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+
+import java.util.concurrent.Flow;
+
+/**
+ * {@linkplain Flow.Processor} that receives all signals within a {@linkplain ContextSnapshot context snapshot}
+ * captured when the processor was {@linkplain #wrap(Flow.Processor) wrapped}.
+ *
+ * <p>
+ * Subscribers {@linkplain #subscribe(Flow.Subscriber) subscribing} to this processor
+ * are {@linkplain ContextAwareSubscriber#wrap(Flow.Subscriber) wrapped} as well.
+ * They receive their signals within a snapshot captured at subscribe time.
+ *
+ * <p>
+ * This class requires Java 9 or newer.
+ *
+ * @param <T> the subscribed item type
+ * @param <R> the published item type
+ * @author Sjoerd Talsma
+ * @see ContextAwareSubscriber
+ * @since 2.0.6
+ */
+public class ContextAwareProcessor<T, R> extends ContextAwareSubscriber<T> implements Flow.Processor<T, R> {
+    /**
+     * Creates a new processor, receiving all signals within the specified snapshot.
+     *
+     * @param snapshot The context snapshot to reactivate for each signal (required).
+     * @param delegate The processor to delegate to (required).
+     * @see #wrap(Flow.Processor)
+     */
+    protected ContextAwareProcessor(ContextSnapshot snapshot, Flow.Processor<T, R> delegate) {
+        super(snapshot, delegate);
+    }
+
+    /**
+     * Wraps the processor, capturing a new context snapshot to reactivate for all received signals.
+     *
+     * @param processor The processor to wrap (required).
+     * @param <T>       the subscribed item type
+     * @param <R>       the published item type
+     * @return The context-aware processor.
+     * @see ContextSnapshot#capture()
+     */
+    public static <T, R> ContextAwareProcessor<T, R> wrap(Flow.Processor<T, R> processor) {
+        return new ContextAwareProcessor<>(ContextSnapshot.capture(), processor);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        ((Flow.Processor<T, R>) delegate()).subscribe(ContextAwareSubscriber.wrap(subscriber));
+    }
+}
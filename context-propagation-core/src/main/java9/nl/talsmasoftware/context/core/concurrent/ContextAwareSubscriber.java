@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.delegation.WrapperWithContext;
+
+import java.util.concurrent.Flow;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@linkplain Flow.Subscriber} that receives all signals within a {@linkplain ContextSnapshot context snapshot}
+ * captured when the subscriber was {@linkplain #wrap(Flow.Subscriber) wrapped}.
+ *
+ * <p>
+ * Wrap the subscriber when subscribing it to a publisher:
+ * <pre>{@code
+ * publisher.subscribe(ContextAwareSubscriber.wrap(subscriber));
+ * }</pre>
+ *
+ * <p>
+ * The snapshot is reactivated around each signal and closed again before returning to the publisher,
+ * so the context never remains active in a publisher thread.<br>
+ * {@linkplain Flow.Subscription#request(long) Requests} from the subscriber are made within the snapshot as well.
+ * A publisher delivering items from within the {@code request(n)} call therefore delivers the whole burst
+ * within a single reactivation. Signals that find the snapshot already reactivated skip their own reactivation.
+ *
+ * <p>
+ * Asynchronous publishers, such as {@linkplain java.util.concurrent.SubmissionPublisher SubmissionPublisher},
+ * deliver items from their own executor tasks, outside of any {@code request(n)} call.
+ * Each of these items is delivered within its own reactivation of the snapshot:
+ * the subscriber cannot tell when such a delivery burst ends,
+ * and the context must not remain active in the publisher thread after it.
+ *
+ * <p>
+ * This class requires Java 9 or newer.
+ *
+ * @param <T> the subscribed item type
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class ContextAwareSubscriber<T> extends WrapperWithContext<Flow.Subscriber<T>> implements Flow.Subscriber<T> {
+    /**
+     * Creates a new subscriber, receiving all signals within the specified snapshot.
+     *
+     * @param snapshot The context snapshot to reactivate for each signal (required).
+     * @param delegate The subscriber to delegate the signals to (required).
+     * @see #wrap(Flow.Subscriber)
+     */
+    protected ContextAwareSubscriber(ContextSnapshot snapshot, Flow.Subscriber<T> delegate) {
+        super(snapshot, requireNonNull(delegate, "Subscriber is <null>."));
+    }
+
+    /**
+     * Wraps the subscriber, capturing a new context snapshot to reactivate for all signals.
+     *
+     * @param subscriber The subscriber to wrap (required).
+     * @param <T>        the subscribed item type
+     * @return The context-aware subscriber.
+     * @see ContextSnapshot#capture()
+     */
+    public static <T> ContextAwareSubscriber<T> wrap(Flow.Subscriber<T> subscriber) {
+        return new ContextAwareSubscriber<>(ContextSnapshot.capture(), subscriber);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        try (ContextSnapshot.Reactivation ignored = reactivate()) {
+            delegate().onSubscribe(new SubscriptionWithContext(subscription));
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        try (ContextSnapshot.Reactivation ignored = reactivate()) {
+            delegate().onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        try (ContextSnapshot.Reactivation ignored = reactivate()) {
+            delegate().onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        try (ContextSnapshot.Reactivation ignored = reactivate()) {
+            delegate().onComplete();
+        }
+    }
+
+    /**
+     * Reactivates the snapshot of this subscriber,
+     * unless it is already {@linkplain ContextSnapshot#isReactivated() reactivated} in the current thread.
+     * That is the case when the publisher delivers items from within a {@code request(n)} call of this subscriber.
+     *
+     * @return The reactivation to close after the signal.
+     */
+    @Override
+    protected ContextSnapshot.Reactivation reactivate() {
+        final ContextSnapshot snapshot = snapshot();
+        return snapshot.isReactivated() ? () -> {
+        } : snapshot.reactivate();
+    }
+
+    /**
+     * Subscription requesting items within the snapshot of the subscriber.
+     */
+    private final class SubscriptionWithContext implements Flow.Subscription {
+        private final Flow.Subscription subscription;
+
+        private SubscriptionWithContext(Flow.Subscription subscription) {
+            this.subscription = requireNonNull(subscription, "Subscription is <null>.");
+        }
+
+        @Override
+        public void request(long n) {
+            try (ContextSnapshot.Reactivation ignored = reactivate()) {
+                subscription.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            subscription.cancel();
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + '{' + subscription + '}';
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.dummy.DummyContext;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import nl.talsmasoftware.context.dummy.ThrowingContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextAwareBlockingQueueTest {
+    static final DummyContextManager manager = new DummyContextManager();
+    static final ThrowingContextManager throwingContextManager = new ThrowingContextManager();
+
+    ContextAwareBlockingQueue<String> queue = new ContextAwareBlockingQueue<>();
+
+    @BeforeEach
+    @AfterEach
+    void clearDummyContext() {
+        DummyContextManager.clearAllContexts();
+    }
+
+    @Test
+    void testTakeWithinProducerContext() throws Exception {
+        CompletableFuture.runAsync(() -> {
+            try (Context ignored = manager.activate("Producer")) {
+                queue.add("element");
+            }
+        }).get();
+
+        List<String> processed = new ArrayList<>();
+        queue.take(element -> processed.add(element + ": " + manager.getActiveContextValue()));
+
+        assertThat(processed).containsExactly("element: Producer");
+        assertThat(manager.getActiveContextValue()).isNull();
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    void testPollWithinProducerContext() throws InterruptedException {
+        try (Context ignored = manager.activate("Producer")) {
+            queue.put("element");
+        }
+
+        List<String> processed = new ArrayList<>();
+        assertThat(queue.poll(1, TimeUnit.SECONDS, element -> processed.add(element + ": " + manager.getActiveContextValue()))).isTrue();
+        assertThat(queue.poll(1, TimeUnit.MILLISECONDS, processed::add)).isFalse();
+
+        assertThat(processed).containsExactly("element: Producer");
+    }
+
+    @Test
+    void testRegularMethodsReturnElements() throws InterruptedException {
+        try (Context ignored = manager.activate("Producer")) {
+            queue.addAll(Arrays.asList("a", "b", "c", "d"));
+        }
+
+        assertThat(queue).containsExactly("a", "b", "c", "d");
+        assertThat(queue.peek()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.take()).isEqualTo("b");
+        List<String> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained)).isEqualTo(2);
+        assertThat(drained).containsExactly("c", "d");
+        assertThat(queue.poll()).isNull();
+        assertThat(manager.getActiveContextValue()).isNull();
+    }
+
+    @Test
+    void testDrainToGroupsElementsSharingSnapshot() {
+        try (Context ignored = manager.activate("Batch 1")) {
+            queue.addAll(Arrays.asList("a", "b"));
+        }
+        try (Context ignored = manager.activate("Batch 2")) {
+            queue.addAll(Arrays.asList("c", "d"));
+        }
+
+        List<String> processed = new ArrayList<>();
+        int count = queue.drainTo(element -> {
+            processed.add(element + ": " + manager.getActiveContextValue());
+            DummyContext.setCurrentValue("modified"); // remains visible within the same reactivation
+        });
+
+        assertThat(count).isEqualTo(4);
+        assertThat(processed).containsExactly("a: Batch 1", "b: modified", "c: Batch 2", "d: modified");
+    }
+
+    @Test
+    void testDrainToMaxElements() {
+        try (Context ignored = manager.activate("Producer")) {
+            queue.addAll(Arrays.asList("a", "b", "c"));
+        }
+
+        List<String> processed = new ArrayList<>();
+        assertThat(queue.drainTo(processed::add, 2)).isEqualTo(2);
+
+        assertThat(processed).containsExactly("a", "b");
+        assertThat(queue).containsExactly("c");
+    }
+
+    @Test
+    void testDrainToLeavesRemainingElementsOnException() {
+        queue.addAll(Arrays.asList("a", "b", "c"));
+
+        assertThatThrownBy(() -> queue.drainTo(element -> {
+            throw new IllegalStateException("Cannot process " + element);
+        })).isInstanceOf(IllegalStateException.class).hasMessage("Cannot process a");
+
+        assertThat(queue).containsExactly("b", "c");
+    }
+
+    @Test
+    void testDrainToLeavesElementInQueueWhenReactivationFails() {
+        try (Context ignored = throwingContextManager.activate("Throwing value")) {
+            queue.add("a");
+        }
+        ThrowingContextManager.onActivate = new IllegalStateException("Cannot reactivate");
+
+        List<String> processed = new ArrayList<>();
+        assertThatThrownBy(() -> queue.drainTo(processed::add))
+                .isInstanceOf(IllegalStateException.class).hasMessage("Cannot reactivate");
+
+        assertThat(processed).isEmpty();
+        assertThat(queue).containsExactly("a");
+        assertThat(queue.drainTo(processed::add)).isOne();
+        assertThat(processed).containsExactly("a");
+    }
+
+    @Test
+    void testCapacity() {
+        queue = new ContextAwareBlockingQueue<>(1);
+        assertThat(queue.offer("a")).isTrue();
+        assertThat(queue.offer("b")).isFalse();
+        assertThat(queue.remainingCapacity()).isZero();
+        assertThatThrownBy(() -> queue.addAll(Arrays.asList("c", "d"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testNullElement() {
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the packaged multi-release jar, calling the Java 9 methods through a plain
+ * {@linkplain CompletableFuture} reference.
+ *
+ * @author Sjoerd Talsma
+ */
+class ContextAwareCompletableFutureIT {
+    final DummyContextManager manager = new DummyContextManager();
+
+    @BeforeEach
+    @AfterEach
+    void clearDummyContext() {
+        DummyContextManager.clearAllContexts();
+    }
+
+    @Test
+    void newIncompleteFutureOverridesCompletableFuture() {
+        CompletableFuture<String> future = new ContextAwareCompletableFuture<>();
+
+        assertThat(future.newIncompleteFuture()).isInstanceOf(ContextAwareCompletableFuture.class);
+    }
+
+    @Test
+    void copyOverridesCompletableFuture() {
+        CompletableFuture<String> future = new ContextAwareCompletableFuture<>();
+
+        assertThat(future.copy()).isInstanceOf(ContextAwareCompletableFuture.class);
+    }
+
+    @Test
+    void completeAsyncOverridesCompletableFuture() {
+        CompletableFuture<String> future;
+        try (Context ignored = manager.activate("Vincent Vega")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+
+        assertThat(future.completeAsync(manager::getActiveContextValue).join()).isEqualTo("Vincent Vega");
+    }
+
+    @Test
+    void dependentStagesPropagateContext() {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Jules Winnfield")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+
+        CompletableFuture<String> dependent = future
+                .thenApply(value -> value + manager.getActiveContextValue())
+                .thenApply(value -> value + ", " + manager.getActiveContextValue());
+        future.complete("Hello ");
+
+        assertThat(dependent.join()).isEqualTo("Hello Jules Winnfield, Jules Winnfield");
+    }
+}
@@ -30,8 +30,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -42,6 +44,7 @@ import java.util.function.Supplier;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static nl.talsmasoftware.context.core.concurrent.ContextAwareCompletableFuture.supplyAsync;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 /**
@@ -1581,4 +1584,205 @@ class ContextAwareCompletableFutureTest {
     static <T> ThrowingSupplier<T> get(Future<T> future) {
         return future::get;
     }
+
+    @Test
+    void testConsecutiveSynchronousStages() {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Mia Wallace")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+        CompletableFuture<String> chain = future;
+        for (int i = 0; i < 10; i++) {
+            chain = chain.thenApply(value -> value + manager.getActiveContextValue().charAt(0));
+        }
+        assertThat(chain).isNotDone();
+
+        int activations = DummyContextManager.activationCount();
+        future.complete("");
+
+        assertThat(chain).isCompletedWithValue("MMMMMMMMMM");
+        assertThat(DummyContextManager.activationCount() - activations).as("Reactivations for 10 stages").isEqualTo(10);
+        assertActiveContextValue().isNull();
+    }
+
+    @Test
+    void testConsecutiveSynchronousStagesCompletedWithinSnapshot() {
+        ContextSnapshot snapshot;
+        try (Context ignored = manager.activate("Mia Wallace")) {
+            snapshot = ContextSnapshot.capture();
+        }
+        ContextAwareCompletableFuture<String> future = new ContextAwareCompletableFuture<>(snapshot);
+        CompletableFuture<String> chain = future;
+        for (int i = 0; i < 10; i++) {
+            chain = chain.thenApply(value -> value + manager.getActiveContextValue().charAt(0));
+        }
+
+        int activations = DummyContextManager.activationCount();
+        try (ContextSnapshot.Reactivation ignored = snapshot.reactivate()) {
+            future.complete("");
+        }
+
+        assertThat(chain).isCompletedWithValue("MMMMMMMMMM");
+        assertThat(DummyContextManager.activationCount() - activations).as("Reactivations for 10 stages").isOne();
+        assertActiveContextValue().isNull();
+    }
+
+    @Test
+    void testCompletingOtherFutureWithinStageKeepsContext() {
+        ContextSnapshot snapshot;
+        ContextAwareCompletableFuture<Integer> other;
+        try (Context ignored = manager.activate("Jules Winnfield")) {
+            snapshot = ContextSnapshot.capture();
+            other = new ContextAwareCompletableFuture<>();
+        }
+        CompletableFuture<Object> plainDependent = CompletableFuture.anyOf(other);
+        ContextAwareCompletableFuture<String> future = new ContextAwareCompletableFuture<>(snapshot);
+        CompletableFuture<String> result = future
+                .thenApply(value -> {
+                    String before = manager.getActiveContextValue();
+                    other.complete(1);
+                    return before + " -> " + manager.getActiveContextValue();
+                })
+                .thenApply(value -> value + " -> " + manager.getActiveContextValue());
+
+        try (ContextSnapshot.Reactivation ignored = snapshot.reactivate()) {
+            future.complete("");
+        }
+
+        assertThat(result).isCompletedWithValue("Jules Winnfield -> Jules Winnfield -> Jules Winnfield");
+        assertThat(plainDependent).isCompletedWithValue(1);
+        assertActiveContextValue().isNull();
+    }
+
+    @Test
+    void testConsecutiveSynchronousStagesWithPlainDependents() {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Vincent Vega")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+        CompletableFuture<String> stage = future.thenApply(value -> value + manager.getActiveContextValue().charAt(0));
+        CompletableFuture<Object> plainDependent = CompletableFuture.anyOf(stage)
+                .thenApply(value -> "Plain: " + manager.getActiveContextValue());
+        CompletableFuture<String> chain = stage.thenApply(value -> value + manager.getActiveContextValue().charAt(0));
+
+        future.complete("");
+
+        assertThat(chain).isCompletedWithValue("VV");
+        assertThat(plainDependent).isCompletedWithValue("Plain: null");
+        assertActiveContextValue().isNull();
+    }
+
+    @Test
+    void testNewIncompleteFuture() throws ExecutionException, InterruptedException {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Butch Coolidge")) {
+            future = new ContextAwareCompletableFuture<String>().newIncompleteFuture();
+        }
+        CompletableFuture<String> result = future.thenApply(value -> value + manager.getActiveContextValue());
+
+        future.complete("Boxer ");
+
+        assertThat(result.get()).isEqualTo("Boxer Butch Coolidge");
+    }
+
+    @Test
+    void testCopy() throws ExecutionException, InterruptedException {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Winston Wolfe")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+        ContextAwareCompletableFuture<String> copy = future.copy();
+        CompletableFuture<String> result = copy.thenApply(value -> value + manager.getActiveContextValue());
+
+        future.complete("The Wolf: ");
+
+        assertThat(copy.get()).isEqualTo("The Wolf: ");
+        assertThat(result.get()).isEqualTo("The Wolf: Winston Wolfe");
+    }
+
+    @Test
+    void testCopy_exceptionally() {
+        ContextAwareCompletableFuture<String> future = new ContextAwareCompletableFuture<>();
+        ContextAwareCompletableFuture<String> copy = future.copy();
+        IllegalStateException exception = new IllegalStateException("Bad");
+
+        future.completeExceptionally(exception);
+
+        assertThatThrownBy(copy::join).isInstanceOf(CompletionException.class).hasCause(exception);
+    }
+
+    @Test
+    void testCompleteAsync() throws ExecutionException, InterruptedException {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Marsellus Wallace")) {
+            future = new ContextAwareCompletableFuture<String>().completeAsync(DummyContext::currentValue, contextUnawareThreadpool);
+        }
+        assertThat(future.get()).isEqualTo("Marsellus Wallace");
+    }
+
+    @Test
+    void testCompleteAsync_defaultExecutor() throws ExecutionException, InterruptedException {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Marsellus Wallace")) {
+            future = new ContextAwareCompletableFuture<String>().completeAsync(DummyContext::currentValue);
+        }
+        assertThat(future.get()).isEqualTo("Marsellus Wallace");
+        assertThat(future.defaultExecutor()).isNotNull();
+    }
+
+    @Test
+    void testOrTimeout() throws InterruptedException {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Zed")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+        CompletableFuture<String> result = future.orTimeout(10, TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> throwable.getClass().getSimpleName() + " " + manager.getActiveContextValue());
+
+        assertThat(result.join()).isEqualTo("TimeoutException Zed");
+        assertActiveContextValue().isNull();
+    }
+
+    @Test
+    void testOrTimeout_completedBeforeTimeout() {
+        ContextAwareCompletableFuture<String> future = new ContextAwareCompletableFuture<>();
+        assertThat(future.orTimeout(1, TimeUnit.MINUTES)).isSameAs(future);
+
+        future.complete("In time");
+
+        assertThat(future.join()).isEqualTo("In time");
+    }
+
+    @Test
+    void testCompleteOnTimeout() {
+        ContextAwareCompletableFuture<String> future;
+        try (Context ignored = manager.activate("Maynard")) {
+            future = new ContextAwareCompletableFuture<>();
+        }
+        CompletableFuture<String> result = future.completeOnTimeout("Timeout ", 10, TimeUnit.MILLISECONDS)
+                .thenApply(value -> value + manager.getActiveContextValue());
+
+        assertThat(result.join()).isEqualTo("Timeout Maynard");
+    }
+
+    @Test
+    void testDelayedExecutor() throws ExecutionException, InterruptedException {
+        Executor delayedExecutor = ContextAwareCompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS, contextUnawareThreadpool);
+        CompletableFuture<String> future;
+        try (Context ignored = manager.activate("Fabienne")) {
+            future = CompletableFuture.supplyAsync(DummyContext::currentValue, delayedExecutor);
+        }
+        assertThat(future.get()).isEqualTo("Fabienne");
+        assertActiveContextValue().isNull();
+    }
+
+    @Test
+    void testDelayedExecutor_defaultExecutor() throws ExecutionException, InterruptedException {
+        Executor delayedExecutor = ContextAwareCompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> future;
+        try (Context ignored = manager.activate("Esmeralda")) {
+            future = CompletableFuture.supplyAsync(DummyContext::currentValue, delayedExecutor);
+        }
+        assertThat(future.get()).isEqualTo("Esmeralda");
+    }
 }
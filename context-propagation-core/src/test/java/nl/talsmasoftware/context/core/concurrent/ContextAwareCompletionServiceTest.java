@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextAwareCompletionServiceTest {
+    static DummyContextManager dummyContextManager = new DummyContextManager();
+    static ExecutorService threadpool = Executors.newCachedThreadPool();
+
+    ContextAwareCompletionService<String> completionService;
+
+    @BeforeEach
+    void setupCompletionService() {
+        completionService = ContextAwareCompletionService.wrap(new ExecutorCompletionService<>(threadpool));
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clearActiveContexts() {
+        ContextManager.clearAll();
+    }
+
+    @AfterAll
+    static void shutdownThreadpool() {
+        threadpool.shutdown();
+    }
+
+    @Test
+    void testSubmitCallable() throws InterruptedException, ExecutionException {
+        dummyContextManager.activate("Callable value");
+        Future<String> submitted = completionService.submit(dummyContextManager::getActiveContextValue);
+        dummyContextManager.activate("Other value");
+
+        Future<String> taken = completionService.take();
+        assertThat(taken).isSameAs(submitted);
+        assertThat(taken.get()).isEqualTo("Callable value");
+    }
+
+    @Test
+    void testSubmitRunnable() throws InterruptedException, ExecutionException {
+        dummyContextManager.activate("Runnable value");
+        completionService.submit(() -> assertThat(dummyContextManager.getActiveContextValue()).isEqualTo("Runnable value"), "done");
+
+        Future<String> polled = completionService.poll(5, TimeUnit.SECONDS);
+        assertThat(polled).isNotNull();
+        assertThat(polled.get()).isEqualTo("done");
+    }
+
+    @Test
+    void testSubmitAll() throws InterruptedException, ExecutionException {
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(dummyContextManager::getActiveContextValue);
+        }
+        dummyContextManager.activate("Scatter value");
+
+        List<Future<String>> futures = completionService.submitAll(tasks);
+        dummyContextManager.activate("Other value");
+
+        assertThat(futures).hasSize(5);
+        for (int i = 0; i < 5; i++) {
+            Future<String> gathered = completionService.take();
+            assertThat(futures).contains(gathered);
+            assertThat(gathered.get()).isEqualTo("Scatter value");
+        }
+        assertThat(completionService.poll()).isNull();
+    }
+
+    @Test
+    void testNullDelegate() {
+        assertThatThrownBy(() -> ContextAwareCompletionService.wrap(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -22,13 +22,23 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class ContextAwareExecutorServiceTest {
@@ -133,4 +143,134 @@ class ContextAwareExecutorServiceTest {
         Future<String> result = executor.submit(() -> dummyContextManager.getActiveContextValue());
         assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("Callable test value 1");
     }
+
+    @Test
+    void testInvokeAll() throws InterruptedException {
+        dummyContextManager.activate("invokeAll value");
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(getDummyContext);
+        }
+
+        List<Future<String>> results = executor.invokeAll(tasks);
+
+        assertThat(results).hasSize(10).allSatisfy(result ->
+                assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("invokeAll value"));
+    }
+
+    @Test
+    void testFuturesAreNotWrapped() throws InterruptedException {
+        assertThat(executor.submit(getDummyContext)).isInstanceOf(FutureTask.class);
+        assertThat(executor.submit(() -> {
+        })).isInstanceOf(FutureTask.class);
+        assertThat(executor.invokeAll(Collections.singletonList(getDummyContext)))
+                .singleElement().isInstanceOf(FutureTask.class);
+        assertThat(executor.invokeAll(Collections.singletonList(getDummyContext), 1, TimeUnit.MINUTES))
+                .singleElement().isInstanceOf(FutureTask.class);
+    }
+
+    @Test
+    void testStickyReactivation() throws InterruptedException {
+        ThreadPoolExecutor singleThread = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try {
+            ContextAwareExecutorService sticky = ContextAwareExecutorService.wrap(singleThread).stickyReactivation();
+            CountDownLatch blockWorker = new CountDownLatch(1);
+            singleThread.execute(() -> {
+                try {
+                    blockWorker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            dummyContextManager.activate("sticky value");
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                tasks.add(getDummyContext);
+            }
+            Thread releaseWorker = new Thread(() -> {
+                while (singleThread.getQueue().size() < tasks.size()) {
+                    Thread.onSpinWait();
+                }
+                blockWorker.countDown();
+            });
+            releaseWorker.start();
+            int activationsBefore = DummyContextManager.activationCount();
+            List<Future<String>> results = sticky.invokeAll(tasks);
+
+            assertThat(results).hasSize(10).allSatisfy(result ->
+                    assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("sticky value"));
+            assertThat(DummyContextManager.activationCount() - activationsBefore)
+                    .as("Reactivations for 10 queued tasks sharing one snapshot")
+                    .isOne();
+            assertThat(singleThread.submit(getDummyContext))
+                    .as("Context on idle worker thread")
+                    .succeedsWithin(5, TimeUnit.SECONDS).isNull();
+            releaseWorker.join();
+        } finally {
+            singleThread.shutdown();
+            assertThat(singleThread.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+    }
+
+    @Test
+    void testStickyReactivationWithTimeout() throws InterruptedException {
+        ContextAwareExecutorService sticky = executor.stickyReactivation();
+        assertThat(sticky.stickyReactivation()).isSameAs(sticky);
+        assertThat(sticky.stickyReactivation(false)).isNotSameAs(sticky);
+
+        dummyContextManager.activate("sticky value with timeout");
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(getDummyContext);
+        }
+
+        List<Future<String>> results = sticky.invokeAll(tasks, 5, TimeUnit.SECONDS);
+
+        assertThat(results).hasSize(10).allSatisfy(result ->
+                assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("sticky value with timeout"));
+    }
+
+    @Test
+    void testSubmitBatch() {
+        List<String> results = new CopyOnWriteArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int nr = i;
+            tasks.add(() -> results.add(nr + ": " + dummyContextManager.getActiveContextValue()));
+        }
+        dummyContextManager.activate("Batch value");
+
+        ContextAwareCompletableFuture<Void> batch = executor.submitBatch(tasks, 3);
+        ContextAwareCompletableFuture<String> next = batch.thenApply(ignored -> dummyContextManager.getActiveContextValue());
+        dummyContextManager.activate("Other value");
+
+        assertThat(next.join()).isEqualTo("Batch value");
+        assertThat(results).hasSize(10).allSatisfy(result -> assertThat(result).endsWith(": Batch value"));
+    }
+
+    @Test
+    void testSubmitBatchEmpty() {
+        assertThat(executor.submitBatch(Collections.emptyList(), 5)).isCompleted();
+    }
+
+    @Test
+    void testSubmitBatchException() {
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            throw new IllegalStateException("DOH!");
+        });
+        tasks.add(() -> {
+        });
+
+        assertThatThrownBy(executor.submitBatch(tasks, 1)::join)
+                .isInstanceOf(CompletionException.class)
+                .cause().hasMessage("DOH!");
+    }
+
+    @Test
+    void testSubmitBatchInvalidChunkSize() {
+        assertThatThrownBy(() -> executor.submitBatch(Collections.emptyList(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextAwareExecutorTest {
+    static DummyContextManager dummyContextManager = new DummyContextManager();
+    static ExecutorService threadpool = Executors.newFixedThreadPool(1);
+
+    @BeforeEach
+    @AfterEach
+    void clearActiveContexts() {
+        ContextManager.clearAll();
+    }
+
+    @Test
+    void testExecuteWithinContext() throws ExecutionException, InterruptedException {
+        ContextAwareExecutor executor = ContextAwareExecutor.wrap(threadpool);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try (Context ignored = dummyContextManager.activate("Executor value")) {
+            executor.execute(() -> result.complete(dummyContextManager.getActiveContextValue()));
+        }
+
+        assertThat(result.get()).isEqualTo("Executor value");
+        assertThat(CompletableFuture.supplyAsync(dummyContextManager::getActiveContextValue, threadpool).get()).isNull();
+    }
+
+    @Test
+    void testUsableAsAsyncExecutor() throws ExecutionException, InterruptedException {
+        ContextAwareExecutor executor = ContextAwareExecutor.wrap(threadpool);
+        CompletableFuture<String> result;
+        try (Context ignored = dummyContextManager.activate("Async value")) {
+            result = CompletableFuture.supplyAsync(dummyContextManager::getActiveContextValue, executor);
+        }
+
+        assertThat(result.get()).isEqualTo("Async value");
+    }
+
+    @Test
+    void testNullDelegate() {
+        assertThatThrownBy(() -> ContextAwareExecutor.wrap(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testWrapper() {
+        assertThat(ContextAwareExecutor.wrap(threadpool))
+                .isEqualTo(ContextAwareExecutor.wrap(threadpool))
+                .satisfies(executor -> assertThat(executor.isWrapperOf(threadpool)).isTrue());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextAwareProcessorTest {
+    static final DummyContextManager manager = new DummyContextManager();
+
+    @BeforeEach
+    @AfterEach
+    void clearDummyContext() {
+        DummyContextManager.clearAllContexts();
+    }
+
+    @Test
+    void testProcessorAndSubscriberReceiveSignalsWithinOwnSnapshot() throws Exception {
+        ContextAwareSubscriberTest.RecordingSubscriber subscriber = new ContextAwareSubscriberTest.RecordingSubscriber(Long.MAX_VALUE);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            ContextAwareProcessor<String, String> processor;
+            try (Context ignored = manager.activate("Processor context")) {
+                processor = ContextAwareProcessor.wrap(new AppendingProcessor());
+            }
+            try (Context ignored = manager.activate("Subscriber context")) {
+                processor.subscribe(subscriber);
+            }
+            publisher.subscribe(processor);
+
+            publisher.submit("a");
+        }
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.received).containsExactly(
+                "subscribed: Subscriber context",
+                "a (Processor context): Subscriber context",
+                "completed: Subscriber context");
+        assertThat(manager.getActiveContextValue()).isNull();
+    }
+
+    static class AppendingProcessor extends SubmissionPublisher<String> implements Flow.Processor<String, String> {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String item) {
+            submit(item + " (" + manager.getActiveContextValue() + ")");
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+}
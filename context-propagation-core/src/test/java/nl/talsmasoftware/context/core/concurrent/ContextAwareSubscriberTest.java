@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static nl.talsmasoftware.context.dummy.MockedReactivation.trackReactivation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ContextAwareSubscriberTest {
+    static final DummyContextManager manager = new DummyContextManager();
+
+    @BeforeEach
+    @AfterEach
+    void clearDummyContext() {
+        DummyContextManager.clearAllContexts();
+    }
+
+    @Test
+    void testSubscriberReceivesSignalsWithinSnapshot() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            try (Context ignored = manager.activate("Subscriber context")) {
+                publisher.subscribe(ContextAwareSubscriber.wrap(subscriber));
+            }
+            publisher.submit("a");
+            publisher.submit("b");
+        }
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.received).containsExactly(
+                "subscribed: Subscriber context",
+                "a: Subscriber context",
+                "b: Subscriber context",
+                "completed: Subscriber context");
+        assertThat(manager.getActiveContextValue()).isNull();
+    }
+
+    @Test
+    void testErrorIsReceivedWithinSnapshot() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            try (Context ignored = manager.activate("Subscriber context")) {
+                publisher.subscribe(ContextAwareSubscriber.wrap(subscriber));
+            }
+            publisher.closeExceptionally(new IllegalStateException("Bad"));
+        }
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.received).endsWith("IllegalStateException: Subscriber context");
+    }
+
+    @Test
+    void testSynchronousBurstIsDeliveredWithinSingleReactivation() {
+        ContextSnapshot snapshot = mock(ContextSnapshot.class);
+        trackReactivation(snapshot, mock(ContextSnapshot.Reactivation.class));
+        RecordingSubscriber subscriber = new RecordingSubscriber(10);
+        SynchronousPublisher publisher = new SynchronousPublisher();
+
+        publisher.subscribe(new ContextAwareSubscriber<>(snapshot, subscriber));
+        assertThat(publisher.delivered).isEqualTo(10);
+        verify(snapshot, times(1)).reactivate();
+
+        subscriber.subscription.request(5);
+        assertThat(publisher.delivered).isEqualTo(15);
+        verify(snapshot, times(2)).reactivate();
+    }
+
+    static class RecordingSubscriber implements Flow.Subscriber<String> {
+        final long initialRequest;
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> completed = new CompletableFuture<>();
+        Flow.Subscription subscription;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            received.add("subscribed: " + manager.getActiveContextValue());
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(String item) {
+            received.add(item + ": " + manager.getActiveContextValue());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            received.add(throwable.getClass().getSimpleName() + ": " + manager.getActiveContextValue());
+            completed.complete(null);
+        }
+
+        @Override
+        public void onComplete() {
+            received.add("completed: " + manager.getActiveContextValue());
+            completed.complete(null);
+        }
+    }
+
+    /**
+     * Publisher delivering requested items synchronously from within {@code request(n)}.
+     */
+    static class SynchronousPublisher implements Flow.Publisher<String> {
+        int delivered = 0;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n; i++) {
+                        subscriber.onNext("item " + delivered++);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+}
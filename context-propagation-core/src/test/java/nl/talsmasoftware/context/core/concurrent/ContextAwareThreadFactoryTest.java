@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextAwareThreadFactoryTest {
+    static DummyContextManager dummyContextManager = new DummyContextManager();
+
+    @BeforeEach
+    @AfterEach
+    void clearActiveContexts() {
+        ContextManager.clearAll();
+    }
+
+    @Test
+    void testThreadsRunWithinSnapshotCapturedAtCreation() throws InterruptedException {
+        ThreadFactory factory;
+        try (Context ignored = dummyContextManager.activate("Scope value")) {
+            factory = ContextAwareThreadFactory.wrap(Thread.ofVirtual().factory());
+        }
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        try (Context ignored = dummyContextManager.activate("Other value")) {
+            Thread first = factory.newThread(() -> results.add(dummyContextManager.getActiveContextValue()));
+            Thread second = factory.newThread(() -> results.add(dummyContextManager.getActiveContextValue()));
+            first.start();
+            second.start();
+            first.join();
+            second.join();
+        }
+
+        assertThat(results).containsExactly("Scope value", "Scope value");
+    }
+
+    @Test
+    void testPlatformThreads() throws InterruptedException {
+        ThreadFactory factory;
+        try (Context ignored = dummyContextManager.activate("Platform value")) {
+            factory = ContextAwareThreadFactory.wrap(Executors.defaultThreadFactory());
+        }
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        Thread thread = factory.newThread(() -> results.add(dummyContextManager.getActiveContextValue()));
+        thread.start();
+        thread.join();
+
+        assertThat(results).containsExactly("Platform value");
+    }
+
+    @Test
+    void testNullDelegate() {
+        assertThatThrownBy(() -> ContextAwareThreadFactory.wrap(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.core.concurrent;
+
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
+import nl.talsmasoftware.context.dummy.ThrowingContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextAwareThreadPoolExecutorTest {
+    static DummyContextManager dummyContextManager = new DummyContextManager();
+    static ThrowingContextManager throwingContextManager = new ThrowingContextManager();
+
+    static Callable<String> getDummyContext = dummyContextManager::getActiveContextValue;
+
+    ContextAwareThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setupExecutor() {
+        executor = new ContextAwareThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @AfterEach
+    void tearDownExecutor() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        executor = null;
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clearActiveContexts() {
+        ContextManager.clearAll();
+    }
+
+    @Test
+    void testNoContext() throws ExecutionException, InterruptedException {
+        assertThat(executor.submit(getDummyContext).get()).isNull();
+    }
+
+    @Test
+    void testSubmitCallable() throws ExecutionException, InterruptedException {
+        dummyContextManager.activate("Callable value");
+        Future<String> result = executor.submit(getDummyContext);
+        dummyContextManager.activate("Other value");
+
+        assertThat(result.get()).isEqualTo("Callable value");
+        assertThat(executor.submit(getDummyContext).get()).isEqualTo("Other value");
+    }
+
+    @Test
+    void testSubmitRunnable() throws ExecutionException, InterruptedException {
+        dummyContextManager.activate("Runnable value");
+        Future<String> result = executor.submit(
+                () -> assertThat(dummyContextManager.getActiveContextValue()).isEqualTo("Runnable value"), "done");
+        assertThat(result.get()).isEqualTo("done");
+    }
+
+    @Test
+    void testExecute() throws ExecutionException, InterruptedException {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        dummyContextManager.activate("Execute value");
+        executor.execute(() -> result.complete(dummyContextManager.getActiveContextValue()));
+        assertThat(result.get()).isEqualTo("Execute value");
+    }
+
+    @Test
+    void testInvokeAll() throws InterruptedException, ExecutionException {
+        dummyContextManager.activate("InvokeAll value");
+        List<Future<String>> results = executor.invokeAll(Arrays.asList(getDummyContext, getDummyContext));
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("InvokeAll value");
+        }
+    }
+
+    @Test
+    void testWorkerThreadIsCleanAfterTask() throws ExecutionException, InterruptedException {
+        dummyContextManager.activate("Task value");
+        assertThat(executor.submit(getDummyContext).get()).isEqualTo("Task value");
+        ContextManager.clearAll();
+
+        assertThat(executor.submit(getDummyContext).get()).isNull();
+    }
+
+    @Test
+    void testQueueAndShutdownNowReturnSubmittedTasks() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.submit(() -> {
+            blocked.await();
+            return null;
+        });
+        Future<String> queued = executor.submit(getDummyContext);
+
+        assertThat(executor.getQueue()).containsExactly((Runnable) queued);
+        assertThat(executor.shutdownNow()).containsExactly((Runnable) queued);
+    }
+
+    @Test
+    void testReactivationException() {
+        throwingContextManager.activate("Throwing value");
+        ThrowingContextManager.onActivate = new IllegalStateException("Cannot reactivate");
+
+        Future<String> result = executor.submit(getDummyContext);
+
+        assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class).cause().hasMessage("Cannot reactivate");
+    }
+
+    @Test
+    void testCloseException() {
+        throwingContextManager.activate("Throwing value");
+        ThrowingContextManager.onClose = new IllegalStateException("Cannot close");
+
+        Future<String> result = executor.submit(getDummyContext);
+
+        assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class).cause().hasMessage("Cannot close");
+    }
+
+    @Test
+    void testBothCallAndCloseException() {
+        throwingContextManager.activate("Throwing value");
+        ThrowingContextManager.onClose = new IllegalStateException("Cannot close");
+
+        Future<String> result = executor.submit(() -> {
+            throw new IllegalStateException("DOH!");
+        });
+
+        assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class).cause()
+                .hasMessage("DOH!")
+                .satisfies(cause -> assertThat(cause.getSuppressed()).extracting(Throwable::getMessage).containsExactly("Cannot close"));
+    }
+}
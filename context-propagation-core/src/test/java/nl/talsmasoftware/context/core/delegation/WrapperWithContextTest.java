@@ -15,11 +15,22 @@
  */
 package nl.talsmasoftware.context.core.delegation;
 
+import nl.talsmasoftware.context.api.Context;
 import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.dummy.DummyContext;
+import nl.talsmasoftware.context.dummy.DummyContextManager;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -89,6 +100,58 @@ class WrapperWithContextTest {
                 .isNotEqualTo(copy); // different inner class
     }
 
+    @Test
+    void testEqualsHashcode_doesNotCallSnapshotSupplier() {
+        AtomicInteger supplierCalls = new AtomicInteger(0);
+        Supplier<ContextSnapshot> supplier = () -> {
+            supplierCalls.incrementAndGet();
+            return mock(ContextSnapshot.class);
+        };
+        Wrapper<Object> delegate = mock(Wrapper.class);
+        WrapperWithContext<Object> wrapper = new SupplierWrapper(supplier, delegate);
+
+        assertThat(wrapper)
+                .hasSameHashCodeAs(new SupplierWrapper(supplier, delegate))
+                .isEqualTo(new SupplierWrapper(supplier, delegate))
+                .isNotEqualTo(new SupplierWrapper(() -> mock(ContextSnapshot.class), delegate));
+        assertThat(supplierCalls.get()).isZero();
+
+        int hashCode = wrapper.hashCode();
+        wrapper.snapshot();
+        assertThat(wrapper.hashCode()).isEqualTo(hashCode);
+        assertThat(supplierCalls.get()).isOne();
+    }
+
+    @Test
+    void testConcurrentSnapshotSupplier_publishesSingleSnapshot() throws Exception {
+        final int threads = 32;
+        final CountDownLatch start = new CountDownLatch(1);
+        final WrapperWithContext<Object> wrapper = new SupplierWrapper(() -> mock(ContextSnapshot.class), "delegate");
+        final Callable<ContextSnapshot> getSnapshot = () -> {
+            start.await();
+            return wrapper.snapshot();
+        };
+        final ExecutorService threadpool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ContextSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(threadpool.submit(getSnapshot));
+            }
+            start.countDown();
+            for (Future<ContextSnapshot> result : results) {
+                assertThat(result.get()).isSameAs(wrapper.snapshot());
+            }
+        } finally {
+            threadpool.shutdown();
+        }
+    }
+
+    static class SupplierWrapper extends WrapperWithContext<Object> {
+        protected SupplierWrapper(Supplier<ContextSnapshot> supplier, Object delegate) {
+            super(supplier, delegate);
+        }
+    }
+
     static class DoNothingWrapper extends WrapperWithContext<Object> {
         protected DoNothingWrapper(ContextSnapshot snapshot, Object delegate) {
             super(snapshot, delegate);
@@ -120,4 +183,48 @@ class WrapperWithContextTest {
         wrapper.snapshot();
         assertThat(wrapper.toString()).contains(snapshot.toString());
     }
+
+    @Test
+    void testNestedWrapperReactivatesSameSnapshot() {
+        ContextSnapshot snapshot;
+        try (Context ignored = new DummyContextManager().activate("value 1")) {
+            snapshot = ContextSnapshot.capture();
+        }
+        WrapperWithContext<Object> outer = new DoNothingWrapper(snapshot, "outer");
+        WrapperWithContext<Object> inner = new DoNothingWrapper(snapshot, "inner");
+
+        try (ContextSnapshot.Reactivation outerReactivation = outer.reactivate()) {
+            try (Context changed = new DummyContextManager().activate("changed")) {
+                try (ContextSnapshot.Reactivation innerReactivation = inner.reactivate()) {
+                    DummyContext.assertCurrentValue().isEqualTo("value 1");
+                }
+                DummyContext.assertCurrentValue().isEqualTo("changed");
+            }
+            DummyContext.assertCurrentValue().isEqualTo("value 1");
+        }
+        DummyContext.assertCurrentValue().isNull();
+    }
+
+    @Test
+    void testReactivateAfterOtherSnapshotWasReactivated() {
+        ContextSnapshot snapshot1;
+        ContextSnapshot snapshot2;
+        try (Context ignored = new DummyContextManager().activate("value 1")) {
+            snapshot1 = ContextSnapshot.capture();
+        }
+        try (Context ignored = new DummyContextManager().activate("value 2")) {
+            snapshot2 = ContextSnapshot.capture();
+        }
+
+        try (ContextSnapshot.Reactivation outer = new DoNothingWrapper(snapshot1, "outer").reactivate()) {
+            try (ContextSnapshot.Reactivation other = snapshot2.reactivate()) {
+                try (ContextSnapshot.Reactivation inner = new DoNothingWrapper(snapshot1, "inner").reactivate()) {
+                    DummyContext.assertCurrentValue().isEqualTo("value 1");
+                }
+                DummyContext.assertCurrentValue().isEqualTo("value 2");
+            }
+            DummyContext.assertCurrentValue().isEqualTo("value 1");
+        }
+        DummyContext.assertCurrentValue().isNull();
+    }
 }
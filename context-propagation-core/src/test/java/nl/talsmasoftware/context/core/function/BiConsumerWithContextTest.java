@@ -30,6 +30,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static java.lang.String.format;
 import static nl.talsmasoftware.context.dummy.DummyContext.currentValue;
 import static nl.talsmasoftware.context.dummy.DummyContext.setCurrentValue;
@@ -63,6 +64,7 @@ class BiConsumerWithContextTest {
 
     @AfterEach
     void tearDown() throws InterruptedException {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
         unawareThreadpool.shutdown();
         unawareThreadpool.awaitTermination(5, TimeUnit.SECONDS);
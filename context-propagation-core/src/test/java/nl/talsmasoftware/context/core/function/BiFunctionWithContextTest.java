@@ -28,13 +28,14 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.trackReactivation;
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Sjoerd Talsma
@@ -58,6 +59,7 @@ class BiFunctionWithContextTest {
 
     @AfterEach
     void verifyMocks() {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
     }
 
@@ -107,7 +109,7 @@ class BiFunctionWithContextTest {
     @Test
     void testCloseReactivatedContextInCaseOfException() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         final RuntimeException expectedException = new RuntimeException("Whoops!");
 
         BiFunctionWithContext<Object, Object, Object> subject = new BiFunctionWithContext<>(snapshot, throwing(expectedException));
@@ -128,7 +130,7 @@ class BiFunctionWithContextTest {
     @Test
     void testAndThen_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Function<Integer, Integer> after = i -> i + 100;
         BiFunction<Integer, Integer, Integer> function = (a, b) -> a * 10 + b * 5;
         AtomicInteger consumed = new AtomicInteger(0);
@@ -27,13 +27,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.trackReactivation;
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Sjoerd Talsma
@@ -58,6 +59,7 @@ class BiPredicateWithContextTest {
 
     @AfterEach
     void verifyMocks() {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
     }
 
@@ -108,7 +110,7 @@ class BiPredicateWithContextTest {
     @Test
     void testCloseReactivatedContextInCaseOfException() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         final RuntimeException expectedException = new RuntimeException("Whoops!");
 
         BiPredicateWithContext<Object, Object> subject = new BiPredicateWithContext<>(snapshot, throwing(expectedException));
@@ -129,7 +131,7 @@ class BiPredicateWithContextTest {
     @Test
     void testAnd_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         BiPredicate<String, String> predicate = (a, b) -> a != null && b != null;
         BiPredicate<String, String> and = (a, b) -> a.isEmpty() || b.isEmpty();
 
@@ -146,7 +148,7 @@ class BiPredicateWithContextTest {
     @Test
     void testAnd_shortCircuit() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         BiPredicate<String, String> predicate = (a, b) -> a != null && b != null;
         @SuppressWarnings("unchecked")
         BiPredicate<String, String> and = mock(BiPredicate.class);
@@ -174,7 +176,7 @@ class BiPredicateWithContextTest {
     @Test
     void tesOr_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         BiPredicate<String, String> predicate = (a, b) -> a == null || b == null;
         BiPredicate<String, String> or = (a, b) -> a.isEmpty() || b.isEmpty();
 
@@ -191,7 +193,7 @@ class BiPredicateWithContextTest {
     @Test
     void testOr_shortCircuit() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         BiPredicate<String, String> predicate = (a, b) -> a == null || b == null;
         @SuppressWarnings("unchecked")
         BiPredicate<String, String> or = mock(BiPredicate.class);
@@ -30,13 +30,14 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.trackReactivation;
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Sjoerd Talsma
@@ -61,6 +62,7 @@ class BinaryOperatorWithContextTest {
 
     @AfterEach
     void verifyMocks() {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
     }
 
@@ -110,7 +112,7 @@ class BinaryOperatorWithContextTest {
     @Test
     void testCloseReactivatedContextInCaseOfException() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         final RuntimeException expectedException = new RuntimeException("Whoops!");
 
         BinaryOperatorWithContext<String> subject = new BinaryOperatorWithContext<>(() -> snapshot, throwing(expectedException), null) {
@@ -132,7 +134,7 @@ class BinaryOperatorWithContextTest {
     @Test
     void testAndThen_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         UnaryOperator<Integer> after = i -> i + 100;
         BinaryOperator<Integer> function = (a, b) -> a * 10 + b * 5;
         AtomicInteger consumed = new AtomicInteger(0);
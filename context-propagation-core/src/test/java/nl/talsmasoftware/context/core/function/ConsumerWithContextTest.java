@@ -29,6 +29,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static nl.talsmasoftware.context.dummy.DummyContext.assertCurrentValue;
 import static nl.talsmasoftware.context.dummy.DummyContext.currentValue;
 import static nl.talsmasoftware.context.dummy.DummyContext.setCurrentValue;
@@ -61,6 +62,7 @@ class ConsumerWithContextTest {
 
     @AfterEach
     void tearDown() throws InterruptedException {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
         unawareThreadPool.shutdown();
         unawareThreadPool.awaitTermination(5, TimeUnit.SECONDS);
@@ -28,13 +28,14 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.trackReactivation;
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Sjoerd Talsma
@@ -58,6 +59,7 @@ class FunctionWithContextTest {
 
     @AfterEach
     void verifyMocks() {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
     }
 
@@ -111,7 +113,7 @@ class FunctionWithContextTest {
     @Test
     void testCloseReactivatedContextInCaseOfException() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         final RuntimeException expectedException = new RuntimeException("Whoops!");
 
         FunctionWithContext<Object, Object> subject = new FunctionWithContext<>(snapshot, throwing(expectedException));
@@ -121,6 +123,65 @@ class FunctionWithContextTest {
         verify(reactivation).close();
     }
 
+    @Test
+    void testApplyWithSnapshotSupplier_recapturesChangesOnly() {
+        DummyContext.setCurrentValue("Old value");
+        final ContextSnapshot captured = ContextSnapshot.capture();
+        final ContextSnapshot[] snapshotHolder = new ContextSnapshot[1];
+
+        new FunctionWithContext<>(() -> captured, Function.identity(), s -> snapshotHolder[0] = s).apply("input");
+        assertThat(snapshotHolder[0]).isSameAs(captured);
+
+        new FunctionWithContext<>(() -> captured, input -> {
+            DummyContext.setCurrentValue("New value");
+            return input;
+        }, s -> snapshotHolder[0] = s).apply("input");
+        assertThat(snapshotHolder[0]).isNotSameAs(captured);
+        try (ContextSnapshot.Reactivation ignored = snapshotHolder[0].reactivate()) {
+            assertThat(DummyContext.currentValue()).isEqualTo("New value");
+        }
+    }
+
+    @Test
+    void testNestedWrapperWithSameSnapshot_singleContextSwitch() {
+        ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
+        trackReactivation(snapshot, reactivation);
+        Function<Integer, Integer> inner = new FunctionWithContext<>(snapshot, i -> i + 3);
+
+        Function<Integer, Integer> nested = new FunctionWithContext<>(snapshot, new FunctionWithContext<>(snapshot, inner));
+
+        assertThat(nested.apply(2)).isEqualTo(5);
+        verify(snapshot, times(1)).reactivate();
+        verify(reactivation, times(1)).close();
+    }
+
+    @Test
+    void testNestedWrapperWithSnapshotConsumerIsNotUnwrapped() {
+        ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
+        trackReactivation(snapshot, reactivation);
+        AtomicInteger consumed = new AtomicInteger(0);
+        Function<Integer, Integer> inner = new FunctionWithContext<>(snapshot, i -> i + 3, s -> consumed.incrementAndGet());
+
+        assertThat(new FunctionWithContext<>(snapshot, inner).apply(2)).isEqualTo(5);
+        verify(snapshot, times(2)).reactivate();
+        verify(reactivation, times(2)).close();
+        assertThat(consumed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testAndThenWithSameSnapshot_nestedWrappersReactivateSnapshot() {
+        ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
+        trackReactivation(snapshot, reactivation);
+
+        Function<Integer, Integer> composed = new FunctionWithContext<Integer, Integer>(snapshot, i -> i + 3)
+                .andThen(new FunctionWithContext<>(snapshot, i -> i * 10))
+                .compose(new FunctionWithContext<>(snapshot, i -> i - 1));
+
+        assertThat(composed.apply(3)).isEqualTo((3 - 1 + 3) * 10);
+        verify(snapshot, times(3)).reactivate();
+        verify(reactivation, times(3)).close();
+    }
+
     @Test
     void testComposeWithNull() {
         FunctionWithContext<Object, Object> subject = new FunctionWithContext<>(snapshot, Function.identity());
@@ -132,7 +193,7 @@ class FunctionWithContextTest {
     @Test
     void testComposeWith_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Function<Integer, Integer> before = i -> i * 10;
         Function<Integer, Integer> function = i -> i + 3;
         AtomicInteger consumed = new AtomicInteger(0);
@@ -148,7 +209,7 @@ class FunctionWithContextTest {
     @Test
     void testAndThen_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Function<Integer, Integer> after = i -> i * 10;
         Function<Integer, Integer> function = i -> i + 3;
         AtomicInteger consumed = new AtomicInteger(0);
@@ -29,13 +29,14 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static nl.talsmasoftware.context.dummy.MockedReactivation.trackReactivation;
+import static nl.talsmasoftware.context.dummy.MockedReactivation.ignoreIsReactivated;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Sjoerd Talsma
@@ -59,6 +60,7 @@ class PredicateWithContextTest {
 
     @AfterEach
     void verifyMocks() {
+        ignoreIsReactivated(snapshot);
         verifyNoMoreInteractions(snapshot, context);
     }
 
@@ -112,7 +114,7 @@ class PredicateWithContextTest {
     @Test
     void testCloseReactivatedContextInCaseOfException() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         final RuntimeException expectedException = new RuntimeException("Whoops!");
         PredicateWithContext<Object> subject = new PredicateWithContext<>(snapshot, throwing(expectedException));
 
@@ -133,7 +135,7 @@ class PredicateWithContextTest {
     @Test
     void testAnd_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Predicate<String> predicate = Objects::nonNull;
         Predicate<String> and = String::isEmpty;
 
@@ -149,7 +151,7 @@ class PredicateWithContextTest {
     @Test
     void testAnd_shortCircuit() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Predicate<String> predicate = Objects::nonNull;
         @SuppressWarnings("unchecked")
         Predicate<String> and = mock(Predicate.class);
@@ -176,7 +178,7 @@ class PredicateWithContextTest {
     @Test
     void tesOr_singleContextSwitch() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Predicate<String> predicate = Objects::isNull;
         Predicate<String> or = String::isEmpty;
 
@@ -192,7 +194,7 @@ class PredicateWithContextTest {
     @Test
     void testOr_shortCircuit() {
         ContextSnapshot.Reactivation reactivation = mock(ContextSnapshot.Reactivation.class);
-        when(snapshot.reactivate()).thenReturn(reactivation);
+        trackReactivation(snapshot, reactivation);
         Predicate<String> predicate = Objects::isNull;
         @SuppressWarnings("unchecked")
         Predicate<String> or = mock(Predicate.class);
@@ -18,17 +18,28 @@ package nl.talsmasoftware.context.dummy;
 import nl.talsmasoftware.context.api.Context;
 import nl.talsmasoftware.context.api.ContextManager;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Trivial manager around the {@link DummyContext} implementation to be registered as service provider.
  *
  * @author Sjoerd Talsma
  */
 public class DummyContextManager implements ContextManager<String> {
+    private static final AtomicInteger ACTIVATION_COUNT = new AtomicInteger();
 
     public Context activate(String value) {
+        ACTIVATION_COUNT.incrementAndGet();
         return new DummyContext(value);
     }
 
+    /**
+     * @return The number of times {@linkplain #activate(String)} was called on any dummy context manager.
+     */
+    public static int activationCount() {
+        return ACTIVATION_COUNT.get();
+    }
+
     public String getActiveContextValue() {
         return DummyContext.currentValue();
     }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.dummy;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Support for mocked snapshots that have to report whether they are {@linkplain ContextSnapshot#isReactivated()
+ * reactivated}, like real snapshots do.
+ *
+ * @author Sjoerd Talsma
+ */
+public final class MockedReactivation {
+    private MockedReactivation() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    /**
+     * Makes the mocked snapshot return the reactivation, reporting itself as reactivated until it is closed.
+     *
+     * @param snapshot     The mocked snapshot.
+     * @param reactivation The (mocked) reactivation to return from the snapshot.
+     */
+    public static void trackReactivation(ContextSnapshot snapshot, ContextSnapshot.Reactivation reactivation) {
+        final AtomicBoolean reactivated = new AtomicBoolean(false);
+        when(snapshot.isReactivated()).thenAnswer(invocation -> reactivated.get());
+        when(snapshot.reactivate()).thenAnswer(invocation -> {
+            reactivated.set(true);
+            return reactivation;
+        });
+        doAnswer(invocation -> {
+            reactivated.set(false);
+            return null;
+        }).when(reactivation).close();
+    }
+
+    /**
+     * Marks all calls to {@linkplain ContextSnapshot#isReactivated()} on the mocked snapshot as verified.
+     *
+     * @param snapshot The mocked snapshot.
+     */
+    public static void ignoreIsReactivated(ContextSnapshot snapshot) {
+        verify(snapshot, atLeast(0)).isReactivated();
+    }
+}
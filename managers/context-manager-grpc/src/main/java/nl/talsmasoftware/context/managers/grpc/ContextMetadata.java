@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.grpc;
+
+import io.grpc.Metadata;
+import nl.talsmasoftware.context.api.ContextManager;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Explicit mapping of a {@linkplain ContextManager} value to a gRPC {@linkplain Metadata.Key metadata key}.
+ *
+ * <p>
+ * The metadata key defines the wire format of the context value by means of its (ASCII or binary) marshaller.
+ * Only context values with such an explicit mapping are sent by the {@linkplain ContextSnapshotClientInterceptor}
+ * and accepted by the {@linkplain ContextSnapshotServerInterceptor}.
+ *
+ * @param <T> Type of the context value.
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public final class ContextMetadata<T> {
+    private final ContextManager<T> contextManager;
+    private final Metadata.Key<T> key;
+
+    private ContextMetadata(ContextManager<T> contextManager, Metadata.Key<T> key) {
+        this.contextManager = requireNonNull(contextManager, "Context manager is <null>.");
+        this.key = requireNonNull(key, "Metadata key is <null>.");
+    }
+
+    /**
+     * Maps the value of the context manager to the specified gRPC metadata key.
+     *
+     * @param contextManager The context manager to propagate the value of.
+     * @param key            The metadata key, including the marshaller for the context value.
+     * @param <T>            Type of the context value.
+     * @return The context metadata mapping.
+     */
+    public static <T> ContextMetadata<T> of(ContextManager<T> contextManager, Metadata.Key<T> key) {
+        return new ContextMetadata<>(contextManager, key);
+    }
+
+    ContextManager<T> contextManager() {
+        return contextManager;
+    }
+
+    Metadata.Key<T> key() {
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{contextManager=" + contextManager + ", key=" + key.name() + '}';
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * gRPC {@linkplain ClientInterceptor} that sends the active context values of explicitly configured
+ * {@linkplain ContextMetadata context managers} with each call.
+ *
+ * <p>
+ * When the call is started, the active value of each configured context manager is sent as metadata header,
+ * encoded by the marshaller of its {@linkplain io.grpc.Metadata.Key metadata key}.
+ * No other context values are sent, and {@code null} values are omitted.<br>
+ * The {@linkplain ContextSnapshotServerInterceptor} activates the values on the server side.
+ *
+ * @author Sjoerd Talsma
+ * @see ContextSnapshotServerInterceptor
+ * @since 2.0.6
+ */
+public class ContextSnapshotClientInterceptor implements ClientInterceptor {
+    private final List<ContextMetadata<?>> propagated;
+
+    /**
+     * Creates a new client interceptor sending the values of the specified context managers.
+     *
+     * @param propagated The context managers and metadata keys of the values to send.
+     */
+    public ContextSnapshotClientInterceptor(ContextMetadata<?>... propagated) {
+        final List<ContextMetadata<?>> list = new ArrayList<>(propagated.length);
+        for (ContextMetadata<?> metadata : propagated) {
+            list.add(requireNonNull(metadata, "Context metadata is <null>."));
+        }
+        this.propagated = Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public <Q, R> ClientCall<Q, R> interceptCall(MethodDescriptor<Q, R> method, CallOptions callOptions, Channel next) {
+        return new ForwardingClientCall.SimpleForwardingClientCall<Q, R>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<R> responseListener, Metadata headers) {
+                for (ContextMetadata<?> metadata : propagated) {
+                    putActiveValue(metadata, headers);
+                }
+                super.start(responseListener, headers);
+            }
+        };
+    }
+
+    private static <T> void putActiveValue(ContextMetadata<T> metadata, Metadata headers) {
+        final T value = metadata.contextManager().getActiveContextValue();
+        if (value != null) {
+            headers.put(metadata.key(), value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + propagated;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.grpc;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import nl.talsmasoftware.context.api.Context;
+import nl.talsmasoftware.context.api.ContextManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * gRPC {@linkplain ServerInterceptor} that activates the context values
+ * sent by the {@linkplain ContextSnapshotClientInterceptor}.
+ *
+ * <p>
+ * Only the metadata headers of explicitly accepted {@linkplain ContextMetadata context managers} are decoded,
+ * using the marshaller of their {@linkplain io.grpc.Metadata.Key metadata key}, and only once per call.
+ * Headers that cannot be decoded are logged and ignored.
+ * The received values are activated while the call is started and during each callback of the call listener,
+ * so the server call handler runs within the context of the client.
+ *
+ * @author Sjoerd Talsma
+ * @see ContextSnapshotClientInterceptor
+ * @since 2.0.6
+ */
+public class ContextSnapshotServerInterceptor implements ServerInterceptor {
+    private static final Logger LOGGER = Logger.getLogger(ContextSnapshotServerInterceptor.class.getName());
+
+    private final List<ContextMetadata<?>> accepted;
+
+    /**
+     * Creates a new server interceptor activating the received values of the specified context managers.
+     *
+     * @param accepted The context managers and metadata keys of the values to accept.
+     */
+    public ContextSnapshotServerInterceptor(ContextMetadata<?>... accepted) {
+        final List<ContextMetadata<?>> list = new ArrayList<>(accepted.length);
+        for (ContextMetadata<?> metadata : accepted) {
+            list.add(requireNonNull(metadata, "Context metadata is <null>."));
+        }
+        this.accepted = Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        final ReceivedValues received = receive(headers);
+        if (received == null) {
+            return next.startCall(call, headers);
+        }
+        final ServerCall.Listener<Q> listener;
+        try (Context activated = received.activate()) {
+            listener = next.startCall(call, headers);
+        }
+        return new ActivatingListener<>(listener, received);
+    }
+
+    private ReceivedValues receive(Metadata headers) {
+        List<ContextManager<?>> managers = null;
+        List<Object> values = null;
+        for (ContextMetadata<?> metadata : accepted) {
+            final Object value = parse(metadata, headers);
+            if (value != null) {
+                if (managers == null) {
+                    managers = new ArrayList<>(accepted.size());
+                    values = new ArrayList<>(accepted.size());
+                }
+                managers.add(metadata.contextManager());
+                values.add(value);
+            }
+        }
+        return managers == null ? null : new ReceivedValues(managers, values);
+    }
+
+    private static <T> T parse(ContextMetadata<T> metadata, Metadata headers) {
+        try {
+            return headers.get(metadata.key());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Could not decode gRPC metadata header " + metadata.key().name() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + accepted;
+    }
+
+    /**
+     * The context values received with a single call.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"}) // Each value was decoded by the metadata key of its manager.
+    private static final class ReceivedValues {
+        private final ContextManager[] managers;
+        private final Object[] values;
+
+        private ReceivedValues(List<ContextManager<?>> managers, List<Object> values) {
+            this.managers = managers.toArray(new ContextManager[0]);
+            this.values = values.toArray();
+        }
+
+        private Context activate() {
+            final Context[] activated = new Context[managers.length];
+            try {
+                for (int i = 0; i < managers.length; i++) {
+                    activated[i] = managers[i].activate(values[i]);
+                }
+            } catch (RuntimeException activationException) {
+                close(activated, activationException);
+                throw activationException;
+            }
+            return () -> close(activated, null);
+        }
+
+        private static void close(Context[] activated, RuntimeException reason) {
+            RuntimeException error = reason;
+            for (int i = activated.length - 1; i >= 0; i--) {
+                if (activated[i] != null) {
+                    try {
+                        activated[i].close();
+                    } catch (RuntimeException rte) {
+                        if (error == null) {
+                            error = rte;
+                        } else {
+                            error.addSuppressed(rte);
+                        }
+                    }
+                }
+            }
+            if (reason == null && error != null) {
+                throw error;
+            }
+        }
+    }
+
+    private static final class ActivatingListener<Q> extends ForwardingServerCallListener.SimpleForwardingServerCallListener<Q> {
+        private final ReceivedValues received;
+
+        private ActivatingListener(ServerCall.Listener<Q> delegate, ReceivedValues received) {
+            super(delegate);
+            this.received = received;
+        }
+
+        @Override
+        public void onMessage(Q message) {
+            try (Context activated = received.activate()) {
+                super.onMessage(message);
+            }
+        }
+
+        @Override
+        public void onHalfClose() {
+            try (Context activated = received.activate()) {
+                super.onHalfClose();
+            }
+        }
+
+        @Override
+        public void onCancel() {
+            try (Context activated = received.activate()) {
+                super.onCancel();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            try (Context activated = received.activate()) {
+                super.onComplete();
+            }
+        }
+
+        @Override
+        public void onReady() {
+            try (Context activated = received.activate()) {
+                super.onReady();
+            }
+        }
+    }
+}
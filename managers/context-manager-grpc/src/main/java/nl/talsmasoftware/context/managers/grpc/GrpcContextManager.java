@@ -44,8 +44,6 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
     private static final Logger LOGGER = Logger.getLogger(GrpcContextManager.class.getName());
     private static final Key<ContextSnapshot> GRPC_SNAPSHOT_KEY = key("contextsnapshot-over-grpc");
     private static final Key<Reactivation> GRPC_REACTIVATION_KEY = key("contextsnapshot-reactivation");
-    private static final ThreadLocal<GrpcContextManager> CAPTURING = new ThreadLocal<>();
-    private static final io.grpc.Context DUMMY = io.grpc.Context.ROOT.withValue(key("dummy"), "dummy");
 
     private static final ThreadLocal<io.grpc.Context> STORAGE = new ThreadLocal<>();
 
@@ -78,20 +76,15 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
      */
     @Override
     public io.grpc.Context current() {
-        if (CAPTURING.get() != null) {
+        if (ContextSnapshot.isCapturing()) {
             LOGGER.finest("gRPC current(): Returning ROOT context because already capturing.");
             return ROOT;
         }
-        try {
-            LOGGER.finest("--> gRPC current(): Capturing gRPC context.");
-            CAPTURING.set(this);
-            ContextSnapshot snapshot = ContextSnapshot.capture();
-            io.grpc.Context current = nullToRoot(STORAGE.get()).withValue(GRPC_SNAPSHOT_KEY, snapshot);
-            LOGGER.finest(() -> "<-- gRPC current(): Returning current gRPC context " + current + " with captured " + snapshot + ".");
-            return current;
-        } finally {
-            CAPTURING.remove();
-        }
+        LOGGER.finest("--> gRPC current(): Capturing gRPC context.");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        io.grpc.Context current = nullToRoot(STORAGE.get()).withValue(GRPC_SNAPSHOT_KEY, snapshot);
+        LOGGER.finest(() -> "<-- gRPC current(): Returning current gRPC context " + current + " with captured " + snapshot + ".");
+        return current;
     }
 
     /**
@@ -116,7 +109,7 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
             toAttach = toAttach.withValue(GRPC_SNAPSHOT_KEY, null);
             toRestore = toRestore.withValue(GRPC_REACTIVATION_KEY, snapshot.reactivate());
         }
-        STORAGE.set(rootOrDummyToNull(toAttach));
+        STORAGE.set(rootToNull(toAttach));
         return toRestore;
     }
 
@@ -142,7 +135,7 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
             toRestore = toRestore.withValue(GRPC_REACTIVATION_KEY, null);
             LOGGER.finest(() -> "--- gRPC detach(): Reactivation from toRestore closed: " + reactivation + ".");
         }
-        STORAGE.set(rootOrDummyToNull(toRestore));
+        STORAGE.set(rootToNull(toRestore));
         LOGGER.log(Level.FINEST, "<-- gRPC detach(): Detached gRPC context by restoring {0}.", toRestore);
     }
 
@@ -168,19 +161,9 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
      */
     @Override
     public io.grpc.Context getActiveContextValue() {
-        if (CAPTURING.get() != null) {
-            LOGGER.finest("<-> getActiveContextValue(): Returning DUMMY context because already capturing.");
-            return DUMMY;
-        }
-        try {
-            LOGGER.finest("--> getActiveContextValue(): Capturing active context value.");
-            CAPTURING.set(this);
-            io.grpc.Context current = STORAGE.get();
-            LOGGER.finest(() -> "<-- getActiveContextValue() Returning current gRPC context " + current + " from storage.");
-            return current;
-        } finally {
-            CAPTURING.remove();
-        }
+        io.grpc.Context current = STORAGE.get();
+        LOGGER.finest(() -> "<-> getActiveContextValue() Returning current gRPC context " + current + " from storage.");
+        return current;
     }
 
     /**
@@ -196,11 +179,6 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
      */
     @Override
     public Context activate(io.grpc.Context value) {
-        if (value == DUMMY) {
-            LOGGER.finest("<-> activate(DUMMY): Returning no-op context.");
-            return () -> {
-            };
-        }
         LOGGER.finest(() -> "--> activate(" + value + "): Attaching gRPC context " + value + " as current context.");
         final io.grpc.Context toRestore = doAttach(value);
         LOGGER.finest(() -> "<-- activate(" + value + "): Returning context that restores " + toRestore + ".");
@@ -211,7 +189,7 @@ public class GrpcContextManager extends io.grpc.Context.Storage implements Conte
         return context == null ? ROOT : context;
     }
 
-    private static io.grpc.Context rootOrDummyToNull(io.grpc.Context context) {
-        return context == ROOT || context == DUMMY ? null : context;
+    private static io.grpc.Context rootToNull(io.grpc.Context context) {
+        return context == ROOT ? null : context;
     }
 }
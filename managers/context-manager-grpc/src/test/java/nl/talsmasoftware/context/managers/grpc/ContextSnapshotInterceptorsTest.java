@@ -0,0 +1,220 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import nl.talsmasoftware.context.api.ContextManager;
+import nl.talsmasoftware.context.managers.locale.CurrentLocaleHolder;
+import nl.talsmasoftware.context.managers.locale.CurrentLocaleManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the {@link ContextSnapshotClientInterceptor} and {@link ContextSnapshotServerInterceptor}
+ * using the in-process gRPC transport.
+ */
+class ContextSnapshotInterceptorsTest {
+    static final MethodDescriptor.Marshaller<String> STRING_MARSHALLER = new MethodDescriptor.Marshaller<String>() {
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes(UTF_8));
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            try {
+                return new String(stream.readAllBytes(), UTF_8);
+            } catch (IOException ioe) {
+                throw new IllegalStateException(ioe);
+            }
+        }
+    };
+
+    static final MethodDescriptor<String, String> CURRENT_LOCALE = MethodDescriptor.<String, String>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName("test.LocaleService", "CurrentLocale"))
+            .setRequestMarshaller(STRING_MARSHALLER)
+            .setResponseMarshaller(STRING_MARSHALLER)
+            .build();
+
+    static final Metadata.AsciiMarshaller<Locale> LOCALE_MARSHALLER = new Metadata.AsciiMarshaller<Locale>() {
+        @Override
+        public String toAsciiString(Locale value) {
+            return value.toLanguageTag();
+        }
+
+        @Override
+        public Locale parseAsciiString(String serialized) {
+            if (serialized.startsWith("invalid")) {
+                throw new IllegalArgumentException("Invalid locale: " + serialized);
+            }
+            return Locale.forLanguageTag(serialized);
+        }
+    };
+
+    static final ContextMetadata<Locale> LOCALE_METADATA = ContextMetadata.of(CurrentLocaleManager.provider(),
+            Metadata.Key.of("test-locale", LOCALE_MARSHALLER));
+
+    Server server;
+    ManagedChannel channel;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        ContextManager.clearAll();
+        String name = "test-" + UUID.randomUUID();
+        ServerServiceDefinition service = ServerServiceDefinition.builder("test.LocaleService")
+                .addMethod(CURRENT_LOCALE, ServerCalls.asyncUnaryCall((request, responseObserver) -> {
+                    responseObserver.onNext(CurrentLocaleHolder.getOrDefault().toLanguageTag());
+                    responseObserver.onCompleted();
+                }))
+                .build();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(service, new ContextSnapshotServerInterceptor(LOCALE_METADATA)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void stopServer() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        ContextManager.clearAll();
+    }
+
+    @Test
+    void configuredValueIsActivatedOnServer() {
+        Channel interceptedChannel = ClientInterceptors.intercept(channel, new ContextSnapshotClientInterceptor(LOCALE_METADATA));
+
+        CurrentLocaleHolder.set(Locale.GERMANY);
+        assertThat(ClientCalls.blockingUnaryCall(interceptedChannel, CURRENT_LOCALE, CallOptions.DEFAULT, "request"))
+                .isEqualTo("de-DE");
+
+        CurrentLocaleHolder.set(Locale.FRANCE);
+        assertThat(ClientCalls.blockingUnaryCall(interceptedChannel, CURRENT_LOCALE, CallOptions.DEFAULT, "request"))
+                .isEqualTo("fr-FR");
+    }
+
+    @Test
+    void unconfiguredValuesAreNotSent() {
+        CurrentLocaleHolder.set(Locale.GERMANY);
+
+        assertThat(sentHeaders(new ContextSnapshotClientInterceptor()).keys()).isEmpty();
+        assertThat(sentHeaders(new ContextSnapshotClientInterceptor(LOCALE_METADATA)).get(LOCALE_METADATA.key()))
+                .isEqualTo(Locale.GERMANY);
+    }
+
+    @Test
+    void unacceptedValuesAreNotActivated() {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("other-locale", LOCALE_MARSHALLER), Locale.GERMANY);
+
+        assertThat(activeLocaleOnServer(headers)).isEmpty();
+    }
+
+    @Test
+    void undecodableValuesAreIgnored() {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("test-locale", Metadata.ASCII_STRING_MARSHALLER), "invalid-locale");
+
+        assertThat(activeLocaleOnServer(headers)).isEmpty();
+    }
+
+    @Test
+    void acceptedValuesAreActivatedOnServer() {
+        Metadata headers = new Metadata();
+        headers.put(LOCALE_METADATA.key(), Locale.GERMANY);
+
+        assertThat(activeLocaleOnServer(headers)).contains(Locale.GERMANY);
+        assertThat(CurrentLocaleHolder.get()).isEmpty();
+    }
+
+    static Metadata sentHeaders(ContextSnapshotClientInterceptor interceptor) {
+        Metadata headers = new Metadata();
+        ClientCall<String, String> call = interceptor.interceptCall(CURRENT_LOCALE, CallOptions.DEFAULT, new Channel() {
+            @Override
+            public <Q, R> ClientCall<Q, R> newCall(MethodDescriptor<Q, R> method, CallOptions callOptions) {
+                return new NoopClientCall<>();
+            }
+
+            @Override
+            public String authority() {
+                return "test";
+            }
+        });
+        call.start(new ClientCall.Listener<String>() {
+        }, headers);
+        return headers;
+    }
+
+    static Optional<Locale> activeLocaleOnServer(Metadata headers) {
+        AtomicReference<Optional<Locale>> active = new AtomicReference<>();
+        new ContextSnapshotServerInterceptor(LOCALE_METADATA).<String, String>interceptCall(null, headers, (call, metadata) -> {
+            active.set(CurrentLocaleHolder.get());
+            return new ServerCall.Listener<String>() {
+            };
+        });
+        return active.get();
+    }
+
+    static final class NoopClientCall<Q, R> extends ClientCall<Q, R> {
+        @Override
+        public void start(Listener<R> responseListener, Metadata headers) {
+        }
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(Q message) {
+        }
+    }
+}
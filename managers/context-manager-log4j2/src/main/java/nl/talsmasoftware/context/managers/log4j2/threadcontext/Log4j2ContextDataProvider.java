@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.log4j2.threadcontext;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.util.ContextDataProvider;
+import org.apache.logging.log4j.util.StringMap;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Log4j 2 {@linkplain ContextDataProvider} that adds the lazily reactivated {@code ThreadContext} map
+ * to each log event.
+ *
+ * <p>
+ * When lazy activation is enabled, the {@linkplain Log4j2ThreadContextManager} does not copy
+ * the propagated {@code ThreadContext} map entries into the {@code ThreadContext} of the reactivating thread.
+ * Instead, it only remembers the reactivated snapshot, and this provider supplies its map entries
+ * when a log event is created.
+ * This means the copying of map entries only happens for threads that actually log something.
+ *
+ * <p>
+ * Values from the {@code ThreadContext} itself take precedence over lazily reactivated values.
+ * This provider therefore supplies the lazily reactivated map entries, merged with the {@code ThreadContext} map
+ * if that is not empty, regardless of the order in which Log4j 2 consults its context data providers.
+ * If the {@code ThreadContext} map is empty, the frozen map of the reactivated snapshot is supplied as-is,
+ * so garbage-free logging does not allocate for the lazily reactivated entries.
+ *
+ * <p>
+ * This provider is automatically registered with Log4j 2 if {@code log4j-core} is on the classpath.
+ * It does not supply any data unless lazy activation is enabled, see {@linkplain Log4j2ThreadContextManager}.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class Log4j2ContextDataProvider implements ContextDataProvider {
+    /**
+     * Supplies the map entries of the lazily reactivated {@code ThreadContext} snapshot in the current thread.
+     *
+     * @return The reactivated {@code ThreadContext} map, or an empty map if there is none.
+     */
+    @Override
+    public Map<String, String> supplyContextData() {
+        final Log4j2ThreadContextSnapshot reactivated = ReactivatedThreadContext.get();
+        if (reactivated == null) {
+            return Collections.emptyMap();
+        } else if (ThreadContext.isEmpty()) {
+            return reactivated.getContextMap();
+        }
+        return Log4j2ThreadContextSnapshot.captureFromCurrentThread().getContextMap();
+    }
+
+    /**
+     * Supplies the map entries of the lazily reactivated {@code ThreadContext} snapshot in the current thread
+     * as frozen {@code StringMap}, without copying them.
+     *
+     * @return The reactivated {@code ThreadContext} map, or an empty map if there is none.
+     */
+    @Override
+    public StringMap supplyStringMap() {
+        final Log4j2ThreadContextSnapshot reactivated = ReactivatedThreadContext.get();
+        if (reactivated == null) {
+            return Log4j2ThreadContextSnapshot.EMPTY_CONTEXT_DATA;
+        } else if (ThreadContext.isEmpty()) {
+            return reactivated.getContextData();
+        }
+        return Log4j2ThreadContextSnapshot.captureFromCurrentThread().getContextData();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
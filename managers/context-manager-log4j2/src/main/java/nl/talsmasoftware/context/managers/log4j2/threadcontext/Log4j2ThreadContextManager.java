@@ -46,6 +46,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * within the same thread. Log4j 2's {@link CloseableThreadContext} should be used for that instead.
  *
  * <p>
+ * <strong>Lazy activation</strong> can be enabled by setting the system property
+ * {@code contextpropagation.log4j2.threadcontext.lazy} or environment variable
+ * {@code CONTEXTPROPAGATION_LOG4J2_THREADCONTEXT_LAZY} to {@code true}.<br>
+ * Activating a context then does not copy the map entries into the {@code ThreadContext},
+ * but only remembers the activated snapshot for the current thread.
+ * The {@linkplain Log4j2ContextDataProvider} adds its map entries to log events when they are created,
+ * so the copying only happens for threads that actually log something.
+ * This requires {@code log4j-core} as logging implementation.
+ * Please note that lazily activated map entries are <em>not</em> visible through {@link ThreadContext#get(String)}.
+ * In log events, values from the {@code ThreadContext} itself take precedence over lazily activated map entries.
+ * A lazily activated context replaces any lazily activated context that was already active in the thread.
+ *
+ * <p>
  * Log4j 2 supports making {@code ThreadContext} inheritable, i.e. to have it use
  * {@link InheritableThreadLocal}. In some cases this might solve the problem of propagating
  * context from one thread to another. However in all cases where threads are reused (such
@@ -70,6 +83,10 @@ public class Log4j2ThreadContextManager implements ContextManager<Log4j2ThreadCo
     private static final Context NOOP_CONTEXT = () -> {
     };
 
+    private static final String SYS_LAZY = "contextpropagation.log4j2.threadcontext.lazy";
+    private static final String ENV_LAZY = SYS_LAZY.toUpperCase().replace('.', '_');
+    private static final boolean LAZY_ACTIVATION = Boolean.parseBoolean(System.getProperty(SYS_LAZY, System.getenv(ENV_LAZY)));
+
     /**
      * Returns the singleton instance of the {@code Log4j2ThreadContextManager}.
      * <p>
@@ -116,12 +133,36 @@ public class Log4j2ThreadContextManager implements ContextManager<Log4j2ThreadCo
      * which should be closed by the caller at the end of its lifecycle from the same thread.
      */
     public Context activate(final Log4j2ThreadContextSnapshot value) {
+        if (LAZY_ACTIVATION) {
+            return activateLazily(value);
+        }
         Context result = NOOP_CONTEXT;
         if (value != null) {
-            // Capture current ThreadContext as 'previous' and make the given data the 'new current' ThreadContext
-            final Log4j2ThreadContextSnapshot previous = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+            final ManagedLog4j2ThreadContext context = new ManagedLog4j2ThreadContext(value);
             value.applyToCurrentThread(); // Add ThreadContext data on top of existing
-            result = new ManagedLog4j2ThreadContext(previous, value);
+            result = context;
+        }
+        return result;
+    }
+
+    /**
+     * Activate a new context, only remembering the {@code ThreadContext} map of the value for the current thread.
+     *
+     * <p>
+     * The map entries are not copied into the {@code ThreadContext},
+     * they are added to log events by the {@linkplain Log4j2ContextDataProvider} instead.
+     * Stack values are pushed on the existing {@code ThreadContext} stack.
+     * Closing the context restores the previously reactivated snapshot and trims the stack back to its previous depth.
+     *
+     * @param value data for the {@code ThreadContext}. {@code null} is ignored.
+     * @return The new <em>active</em> context which should be closed by the caller from the same thread.
+     */
+    static Context activateLazily(final Log4j2ThreadContextSnapshot value) {
+        Context result = NOOP_CONTEXT;
+        if (value != null) {
+            final LazyLog4j2ThreadContext context = new LazyLog4j2ThreadContext(value);
+            value.pushStackToCurrentThread();
+            result = context;
         }
         return result;
     }
@@ -131,6 +172,7 @@ public class Log4j2ThreadContextManager implements ContextManager<Log4j2ThreadCo
      */
     public void clear() {
         ThreadContext.clearAll();
+        ReactivatedThreadContext.set(null);
     }
 
     @Override
@@ -143,8 +185,9 @@ public class Log4j2ThreadContextManager implements ContextManager<Log4j2ThreadCo
         private final Log4j2ThreadContextSnapshot value;
         private final AtomicBoolean closed;
 
-        private ManagedLog4j2ThreadContext(Log4j2ThreadContextSnapshot previous, Log4j2ThreadContextSnapshot value) {
-            this.previous = previous;
+        private ManagedLog4j2ThreadContext(Log4j2ThreadContextSnapshot value) {
+            // Capture current ThreadContext as 'previous' before the given data is applied
+            this.previous = Log4j2ThreadContextSnapshot.captureThreadContext();
             this.value = value;
             this.closed = new AtomicBoolean(false);
         }
@@ -156,8 +199,45 @@ public class Log4j2ThreadContextManager implements ContextManager<Log4j2ThreadCo
         public void close() {
             if (closed.compareAndSet(false, true)) {
                 // Restore previous; overwrite current ThreadContext
-                ThreadContext.clearAll();
-                previous.applyToCurrentThread();
+                ThreadContext.clearMap();
+                previous.applyMapToCurrentThread();
+                if (ThreadContext.getImmutableStack() != previous.getContextStack()) {
+                    ThreadContext.clearStack();
+                    previous.pushStackToCurrentThread();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + '{' + (closed.get() ? "closed" : value) + '}';
+        }
+    }
+
+    private static final class LazyLog4j2ThreadContext implements Context {
+        private final Log4j2ThreadContextSnapshot value;
+        private final Log4j2ThreadContextSnapshot previousReactivated;
+        private final int previousDepth;
+        private final boolean previousMapEmpty;
+        private final AtomicBoolean closed;
+
+        private LazyLog4j2ThreadContext(Log4j2ThreadContextSnapshot value) {
+            this.value = value;
+            this.previousDepth = ThreadContext.getDepth();
+            this.previousMapEmpty = ThreadContext.isEmpty();
+            this.previousReactivated = ReactivatedThreadContext.set(value);
+            this.closed = new AtomicBoolean(false);
+        }
+
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                ReactivatedThreadContext.set(previousReactivated);
+                if (ThreadContext.getDepth() > previousDepth) {
+                    ThreadContext.trim(previousDepth);
+                }
+                if (previousMapEmpty) { // Don't leave values that were put within the context in a pooled thread
+                    ThreadContext.clearMap();
+                }
             }
         }
 
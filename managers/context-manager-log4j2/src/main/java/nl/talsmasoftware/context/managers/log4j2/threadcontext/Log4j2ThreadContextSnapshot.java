@@ -16,29 +16,104 @@
 package nl.talsmasoftware.context.managers.log4j2.threadcontext;
 
 import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.spi.ReadOnlyThreadContextMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.apache.logging.log4j.util.TriConsumer;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Snapshot of the data from the {@link ThreadContext Log4j 2 ThreadContext} of a specific thread at a certain point in the past.
+ *
+ * <p>
+ * If the {@code ThreadContext} map provides its context data as a {@linkplain StringMap}
+ * (e.g. when the garbage-free or copy-on-write {@code ThreadContext} map of Log4j 2 is configured),
+ * the snapshot is captured from that data directly:
+ * <ul>
+ * <li>Frozen (immutable) context data is shared by reference.
+ * <li>Mutable context data, which Log4j 2 keeps reusing, is copied once into a frozen {@code StringMap}.
+ * </ul>
+ * The {@linkplain #getContextMap() context map} is then only created when it is requested.
+ *
+ * <p>
+ * With the garbage-free {@code ThreadContext} map, activating a snapshot in a thread without
+ * {@code ThreadContext} map entries does not copy any map:
+ * the entries are put into the {@code ThreadContext} in place and closing clears it again in place.
+ * The {@code ThreadContext} stack is always copied by Log4j 2 when it is modified,
+ * so snapshots with stack values are set at once if the stack of the thread is empty.
  */
 public class Log4j2ThreadContextSnapshot {
-    private final Map<String, String> contextMap;
+    static final StringMap EMPTY_CONTEXT_DATA = new SortedArrayStringMap(0);
+    private static final Log4j2ThreadContextSnapshot EMPTY;
+    private static final TriConsumer<String, String, Object> PUT_IN_THREAD_CONTEXT =
+            (key, value, ignored) -> ThreadContext.put(key, value);
+
+    static {
+        EMPTY_CONTEXT_DATA.freeze();
+        EMPTY = new Log4j2ThreadContextSnapshot(null, EMPTY_CONTEXT_DATA, ThreadContext.EMPTY_STACK);
+    }
+
     private final ThreadContext.ContextStack contextStack;
+    private volatile Map<String, String> contextMap;
+    private volatile StringMap contextData;
 
-    private Log4j2ThreadContextSnapshot(Map<String, String> contextMap, ThreadContext.ContextStack contextStack) {
+    private Log4j2ThreadContextSnapshot(Map<String, String> contextMap, StringMap contextData, ThreadContext.ContextStack contextStack) {
         this.contextMap = contextMap;
+        this.contextData = contextData;
         this.contextStack = contextStack;
     }
 
     /**
      * Captures a snapshot of the {@code ThreadContext} data from the current thread.
      *
+     * <p>
+     * This includes the map entries of a lazily activated context, if any.
+     *
      * @return Log4j 2 {@code ThreadContext} snapshot from the current thread.
      */
     public static Log4j2ThreadContextSnapshot captureFromCurrentThread() {
+        final Log4j2ThreadContextSnapshot captured = captureThreadContext();
+        final Log4j2ThreadContextSnapshot reactivated = ReactivatedThreadContext.get();
+        if (reactivated == null || reactivated.isMapEmpty()) {
+            return captured;
+        } else if (captured.isMapEmpty()) { // Share the lazily reactivated map
+            return new Log4j2ThreadContextSnapshot(reactivated.contextMap, reactivated.contextData, captured.contextStack);
+        }
+        // Values from the ThreadContext take precedence over lazily reactivated values
+        final Map<String, String> merged = new HashMap<>(reactivated.getContextMap());
+        merged.putAll(captured.getContextMap());
+        return new Log4j2ThreadContextSnapshot(Collections.unmodifiableMap(merged), null, captured.contextStack);
+    }
+
+    /**
+     * Captures a snapshot of the {@code ThreadContext} data from the current thread,
+     * <em>without</em> the map entries of a lazily activated context.
+     *
+     * @return Log4j 2 {@code ThreadContext} snapshot from the current thread.
+     */
+    static Log4j2ThreadContextSnapshot captureThreadContext() {
+        final ThreadContext.ContextStack contextStack = ThreadContext.getImmutableStack();
+        if (ThreadContext.isEmpty() && contextStack.getDepth() == 0) {
+            return EMPTY;
+        }
+        final StringMap contextData = threadContextData();
+        if (contextData != null) {
+            return new Log4j2ThreadContextSnapshot(null, frozen(contextData), contextStack);
+        }
         // Get a copy of context map and context stack
-        return new Log4j2ThreadContextSnapshot(ThreadContext.getImmutableContext(), ThreadContext.getImmutableStack());
+        return new Log4j2ThreadContextSnapshot(ThreadContext.getImmutableContext(), null, contextStack);
+    }
+
+    /**
+     * @return The {@code StringMap} context data of the {@code ThreadContext} map,
+     * or {@code null} if the {@code ThreadContext} map does not provide any.
+     */
+    private static StringMap threadContextData() {
+        final ReadOnlyThreadContextMap threadContextMap = ThreadContext.getThreadContextMap();
+        return threadContextMap == null ? null : threadContextMap.getReadOnlyContextData();
     }
 
     /**
@@ -51,9 +126,48 @@ public class Log4j2ThreadContextSnapshot {
      * @see ThreadContext#clearAll()
      */
     public void applyToCurrentThread() {
-        ThreadContext.putAll(this.contextMap);
-        for (String element : this.contextStack) {
-            ThreadContext.push(element);
+        applyMapToCurrentThread();
+        pushStackToCurrentThread();
+    }
+
+    /**
+     * Apply the {@code ThreadContext} map entries of this snapshot to the current thread.
+     *
+     * <p>
+     * If the {@code ThreadContext} map is updated in place (the garbage-free map),
+     * the entries are put into it directly from the {@code StringMap} context data without creating
+     * the {@linkplain #getContextMap() context map}.
+     * Otherwise all entries are put at once, so a copy-on-write {@code ThreadContext} map is only copied once.
+     */
+    void applyMapToCurrentThread() {
+        if (isMapEmpty()) {
+            return;
+        }
+        final StringMap data = contextData;
+        final StringMap threadContextData = data == null ? null : threadContextData();
+        if (threadContextData != null && !threadContextData.isFrozen()) {
+            data.forEach(PUT_IN_THREAD_CONTEXT, null);
+        } else {
+            ThreadContext.putAll(getContextMap());
+        }
+    }
+
+    /**
+     * Push the {@code ThreadContext} stack values of this snapshot on the stack of the current thread.
+     *
+     * <p>
+     * Log4j 2 copies the stack for each modification.
+     * If the stack of the current thread is empty, all values are therefore set at once.
+     */
+    void pushStackToCurrentThread() {
+        if (contextStack.getDepth() > 0) {
+            if (ThreadContext.getDepth() == 0) {
+                ThreadContext.setStack(contextStack);
+            } else {
+                for (String element : this.contextStack) {
+                    ThreadContext.push(element);
+                }
+            }
         }
     }
 
@@ -63,7 +177,31 @@ public class Log4j2ThreadContextSnapshot {
      * @return {@code ThreadContext} map contained in this snapshot
      */
     public Map<String, String> getContextMap() {
-        return contextMap;
+        Map<String, String> map = contextMap;
+        if (map == null) {
+            map = contextData.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(contextData.toMap());
+            contextMap = map;
+        }
+        return map;
+    }
+
+    /**
+     * Returns the {@code ThreadContext} map contained in this snapshot as frozen {@code StringMap}.
+     *
+     * <p>
+     * If the snapshot was not captured from {@code StringMap} context data,
+     * the frozen {@code StringMap} is created once, when it is first requested.
+     *
+     * @return Frozen {@code ThreadContext} map contained in this snapshot
+     */
+    StringMap getContextData() {
+        StringMap data = contextData;
+        if (data == null) {
+            data = new SortedArrayStringMap(contextMap);
+            data.freeze();
+            contextData = data;
+        }
+        return data;
     }
 
     /**
@@ -76,10 +214,26 @@ public class Log4j2ThreadContextSnapshot {
         return contextStack;
     }
 
+    boolean isMapEmpty() {
+        final StringMap data = contextData;
+        return data != null ? data.isEmpty() : contextMap.isEmpty();
+    }
+
+    private static StringMap frozen(StringMap contextData) {
+        if (contextData.isEmpty()) {
+            return EMPTY_CONTEXT_DATA;
+        } else if (contextData.isFrozen()) {
+            return contextData; // immutable, safe to share
+        }
+        final StringMap copy = new SortedArrayStringMap(contextData);
+        copy.freeze();
+        return copy;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() +
-                "{contextMap=" + contextMap
+                "{contextMap=" + getContextMap()
                 + ", contextStack=" + contextStack + '}';
     }
 }
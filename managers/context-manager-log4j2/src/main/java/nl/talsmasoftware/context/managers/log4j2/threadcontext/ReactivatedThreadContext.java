@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.log4j2.threadcontext;
+
+/**
+ * Holder for the {@code ThreadContext} snapshot that was
+ * {@linkplain Log4j2ThreadContextManager#activateLazily(Log4j2ThreadContextSnapshot) lazily reactivated}
+ * in the current thread.
+ *
+ * <p>
+ * This class deliberately has no dependency on {@code log4j-core},
+ * so the manager can use it regardless of whether the {@linkplain Log4j2ContextDataProvider} is available.
+ */
+final class ReactivatedThreadContext {
+    private static final ThreadLocal<Log4j2ThreadContextSnapshot> REACTIVATED = new ThreadLocal<>();
+
+    private ReactivatedThreadContext() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    /**
+     * @return The lazily reactivated snapshot in the current thread, or {@code null} if there is none.
+     */
+    static Log4j2ThreadContextSnapshot get() {
+        return REACTIVATED.get();
+    }
+
+    /**
+     * Sets the lazily reactivated snapshot for the current thread.
+     *
+     * @param snapshot The snapshot to set, or {@code null} to remove it.
+     * @return The previously reactivated snapshot in the current thread, or {@code null} if there was none.
+     */
+    static Log4j2ThreadContextSnapshot set(Log4j2ThreadContextSnapshot snapshot) {
+        final Log4j2ThreadContextSnapshot previous = REACTIVATED.get();
+        if (snapshot == null) {
+            REACTIVATED.remove();
+        } else {
+            REACTIVATED.set(snapshot);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.log4j2.threadcontext;
+
+import nl.talsmasoftware.context.api.Context;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.impl.ContextDataInjectorFactory;
+import org.apache.logging.log4j.core.impl.ThreadContextDataProvider;
+import org.apache.logging.log4j.core.util.ContextDataProvider;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for the {@link Log4j2ContextDataProvider} together with lazy activation.
+ */
+class Log4j2ContextDataProviderTest {
+    private final Log4j2ContextDataProvider provider = new Log4j2ContextDataProvider();
+
+    @BeforeEach
+    @AfterEach
+    void clearThreadContext() {
+        Log4j2ThreadContextManager.provider().clear();
+    }
+
+    @Test
+    void noDataWithoutLazyActivation() {
+        ThreadContext.put("key", "value");
+        assertThat(provider.supplyContextData()).isEmpty();
+    }
+
+    @Test
+    void lazyActivationDoesNotCopyIntoThreadContext() {
+        ThreadContext.put("key", "value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            assertThat(ThreadContext.isEmpty()).isTrue();
+            assertThat(provider.supplyContextData()).isSameAs(snapshot.getContextMap());
+        }
+
+        assertThat(provider.supplyContextData()).isEmpty();
+    }
+
+    @Test
+    void nestedLazyActivationRestoresPrevious() {
+        ThreadContext.put("key", "outer");
+        Log4j2ThreadContextSnapshot outer = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.put("key", "inner");
+        Log4j2ThreadContextSnapshot inner = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context outerContext = Log4j2ThreadContextManager.activateLazily(outer)) {
+            try (Context innerContext = Log4j2ThreadContextManager.activateLazily(inner)) {
+                assertThat(provider.supplyContextData()).containsEntry("key", "inner");
+            }
+            assertThat(provider.supplyContextData()).containsEntry("key", "outer");
+        }
+        assertThat(provider.supplyContextData()).isEmpty();
+    }
+
+    @Test
+    void captureIncludesLazilyActivatedValues() {
+        ThreadContext.put("lazy", "lazy value");
+        ThreadContext.put("key", "lazy value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            assertThat(Log4j2ThreadContextSnapshot.captureFromCurrentThread().getContextMap())
+                    .isSameAs(snapshot.getContextMap());
+
+            ThreadContext.put("key", "thread context value");
+            assertThat(Log4j2ThreadContextSnapshot.captureFromCurrentThread().getContextMap())
+                    .containsEntry("lazy", "lazy value")
+                    .containsEntry("key", "thread context value")
+                    .hasSize(2);
+        }
+    }
+
+    @Test
+    void lazilyActivatedValuesAreInjectedInLogEvents() {
+        ThreadContext.put("key", "value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            StringMap contextData = ContextDataInjectorFactory.createInjector()
+                    .injectContextData(null, new SortedArrayStringMap());
+            assertThat(contextData.toMap()).containsEntry("key", "value");
+        }
+    }
+
+    @Test
+    void supplyStringMapSharesFrozenContextData() {
+        assertThat(provider.supplyStringMap().isEmpty()).isTrue();
+        assertThat(provider.supplyStringMap().isFrozen()).isTrue();
+
+        ThreadContext.put("key", "value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            StringMap contextData = provider.supplyStringMap();
+            assertThat(contextData).isSameAs(snapshot.getContextData());
+            assertThat(contextData.isFrozen()).isTrue();
+            assertThat(contextData.<String>getValue("key")).isEqualTo("value");
+        }
+    }
+
+    @Test
+    void threadContextValuesTakePrecedenceRegardlessOfProviderOrder() {
+        ThreadContext.put("lazy", "lazy value");
+        ThreadContext.put("key", "lazy value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+        ContextDataProvider threadContextProvider = new ThreadContextDataProvider();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            ThreadContext.put("key", "thread context value");
+
+            Map<String, String> providerLast = new HashMap<>(threadContextProvider.supplyContextData());
+            providerLast.putAll(provider.supplyContextData());
+            Map<String, String> providerFirst = new HashMap<>(provider.supplyContextData());
+            providerFirst.putAll(threadContextProvider.supplyContextData());
+
+            assertThat(providerLast)
+                    .isEqualTo(providerFirst)
+                    .containsEntry("lazy", "lazy value")
+                    .containsEntry("key", "thread context value")
+                    .hasSize(2);
+            assertThat(provider.supplyStringMap().toMap()).isEqualTo(providerLast);
+        }
+    }
+
+    @Test
+    void threadContextValuesTakePrecedenceInLogEvents() {
+        ThreadContext.put("lazy", "lazy value");
+        ThreadContext.put("key", "lazy value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            ThreadContext.put("key", "thread context value");
+            StringMap contextData = ContextDataInjectorFactory.createInjector()
+                    .injectContextData(null, new SortedArrayStringMap());
+            assertThat(contextData.toMap())
+                    .containsEntry("lazy", "lazy value")
+                    .containsEntry("key", "thread context value");
+        }
+    }
+
+    @Test
+    void closingLazyActivationTrimsStackToPreviousDepth() {
+        ThreadContext.put("key", "value");
+        ThreadContext.push("propagated");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+        ThreadContext.push("existing");
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            assertThat(ThreadContext.getImmutableStack().asList()).containsExactly("existing", "propagated");
+            ThreadContext.push("pushed within context");
+            ThreadContext.put("added", "within context");
+        }
+
+        assertThat(ThreadContext.getImmutableStack().asList()).containsExactly("existing");
+        assertThat(ThreadContext.isEmpty()).isTrue();
+        assertThat(provider.supplyContextData()).isEmpty();
+    }
+
+    @Test
+    void testToString() {
+        assertThat(provider).hasToString("Log4j2ContextDataProvider");
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.log4j2.threadcontext;
+
+import nl.talsmasoftware.context.api.Context;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.context.internal.GarbageFreeSortedArrayThreadContextMap;
+import org.apache.logging.log4j.core.impl.ContextDataInjectorFactory;
+import org.apache.logging.log4j.spi.ReadOnlyThreadContextMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test for propagating the Log4j 2 {@link ThreadContext} with the garbage-free {@code ThreadContext} map.
+ */
+class Log4j2GarbageFreeThreadContextTest {
+    private static Object defaultContextMap;
+
+    /**
+     * The {@code ThreadContext} map cannot be re-configured once Log4j 2 has been initialized,
+     * so the garbage-free map is installed through reflection for this test.
+     */
+    @BeforeAll
+    static void installGarbageFreeThreadContextMap() throws ReflectiveOperationException {
+        defaultContextMap = setThreadContextMap(new GarbageFreeSortedArrayThreadContextMap());
+    }
+
+    @AfterAll
+    static void restoreDefaultThreadContextMap() throws ReflectiveOperationException {
+        setThreadContextMap(defaultContextMap);
+    }
+
+    private static Object setThreadContextMap(Object threadContextMap) throws ReflectiveOperationException {
+        Field contextMap = ThreadContext.class.getDeclaredField("contextMap");
+        Field readOnlyContextMap = ThreadContext.class.getDeclaredField("readOnlyContextMap");
+        contextMap.setAccessible(true);
+        readOnlyContextMap.setAccessible(true);
+        Object previous = contextMap.get(null);
+        contextMap.set(null, threadContextMap);
+        readOnlyContextMap.set(null, threadContextMap instanceof ReadOnlyThreadContextMap ? threadContextMap : null);
+        return previous;
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clearThreadContext() {
+        Log4j2ThreadContextManager.provider().clear();
+    }
+
+    @Test
+    void garbageFreeThreadContextMapIsActive() {
+        assertThat(ThreadContext.getThreadContextMap()).isNotNull();
+        assertThat(ThreadContext.getThreadContextMap().getReadOnlyContextData().isFrozen()).isFalse();
+    }
+
+    @Test
+    void captureIsNotAffectedBySubsequentModification() {
+        ThreadContext.put("key1", "value1");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+
+        ThreadContext.put("key1", "changed");
+        ThreadContext.put("key2", "value2");
+
+        assertThat(snapshot.getContextMap()).containsExactly(entry("key1", "value1"));
+    }
+
+    @Test
+    void activateAndCloseRestoresChangedValues() {
+        ThreadContext.put("key1", "value1");
+        ThreadContext.put("key2", "value2");
+        ThreadContext.push("stack1");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+        ThreadContext.put("key2", "value2");
+        ThreadContext.put("key3", "value3");
+
+        try (Context context = Log4j2ThreadContextManager.provider().activate(snapshot)) {
+            assertThat(ThreadContext.getContext())
+                    .containsEntry("key1", "value1")
+                    .containsEntry("key2", "value2")
+                    .containsEntry("key3", "value3")
+                    .hasSize(3);
+            assertThat(ThreadContext.getImmutableStack()).containsExactly("stack1");
+        }
+
+        assertThat(ThreadContext.getContext())
+                .containsEntry("key2", "value2")
+                .containsEntry("key3", "value3")
+                .hasSize(2);
+        assertThat(ThreadContext.getDepth()).isZero();
+    }
+
+    @Test
+    void activationUpdatesThreadContextMapInPlace() {
+        ThreadContext.put("key1", "value1");
+        ThreadContext.put("key2", "value2");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+        StringMap threadContextData = ThreadContext.getThreadContextMap().getReadOnlyContextData();
+
+        try (Context context = Log4j2ThreadContextManager.provider().activate(snapshot)) {
+            assertThat(ThreadContext.getThreadContextMap().getReadOnlyContextData())
+                    .isSameAs(threadContextData)
+                    .satisfies(data -> assertThat(data.toMap()).isEqualTo(snapshot.getContextMap()));
+        }
+
+        assertThat(ThreadContext.getThreadContextMap().getReadOnlyContextData()).isSameAs(threadContextData);
+        assertThat(threadContextData.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lazilyActivatedValuesAreInjectedInLogEvents() {
+        ThreadContext.put("lazy", "lazy value");
+        ThreadContext.put("key", "lazy value");
+        Log4j2ThreadContextSnapshot snapshot = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.clearAll();
+
+        try (Context context = Log4j2ThreadContextManager.activateLazily(snapshot)) {
+            ThreadContext.put("key", "thread context value");
+            StringMap contextData = ContextDataInjectorFactory.createInjector()
+                    .injectContextData(null, new SortedArrayStringMap());
+            assertThat(contextData.toMap())
+                    .containsEntry("lazy", "lazy value")
+                    .containsEntry("key", "thread context value")
+                    .hasSize(2);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 /**
  * Unit test for the {@link Log4j2ThreadContextManager}.
@@ -232,4 +233,46 @@ class Log4j2ThreadContextManagerTest {
         assertThat(ThreadContext.isEmpty()).isTrue();
         assertThat(ThreadContext.getDepth()).isZero();
     }
+
+    @Test
+    void testLargeThreadContextIsRestoredOnClose() {
+        for (int i = 0; i < 50; i++) {
+            ThreadContext.put("key-" + i, "value-" + i);
+        }
+        ThreadContext.push("stack1");
+        Log4j2ThreadContextSnapshot data = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.put("key-7", "changed");
+        ThreadContext.remove("key-9");
+
+        try (Context ctx = Log4j2ThreadContextManager.provider().activate(data)) {
+            assertThat(ThreadContext.get("key-7")).isEqualTo("value-7");
+            assertThat(ThreadContext.get("key-9")).isEqualTo("value-9");
+            assertThat(ThreadContext.getImmutableStack().asList()).containsExactly("stack1", "stack1");
+        }
+
+        assertThat(ThreadContext.get("key-7")).isEqualTo("changed");
+        assertThat(ThreadContext.containsKey("key-9")).isFalse();
+        assertThat(ThreadContext.get("key-8")).isEqualTo("value-8");
+        assertThat(ThreadContext.getContext()).hasSize(49);
+        assertThat(ThreadContext.getImmutableStack().asList()).containsExactly("stack1");
+    }
+
+    @Test
+    void testModificationsWithinContextAreUndoneOnClose() {
+        ThreadContext.put("key1", "value1");
+        ThreadContext.push("stack1");
+        ThreadContext.push("stack2");
+        Log4j2ThreadContextSnapshot data = Log4j2ThreadContextSnapshot.captureFromCurrentThread();
+        ThreadContext.put("key1", "changed");
+
+        try (Context ctx = Log4j2ThreadContextManager.provider().activate(data)) {
+            ThreadContext.put("key2", "added within context");
+            ThreadContext.pop();
+            ThreadContext.pop();
+            ThreadContext.pop(); // below the depth before activation
+        }
+
+        assertThat(ThreadContext.getContext()).containsExactly(entry("key1", "changed"));
+        assertThat(ThreadContext.getImmutableStack().asList()).containsExactly("stack1", "stack2");
+    }
 }
@@ -23,7 +23,6 @@ import nl.talsmasoftware.context.api.ContextSnapshot;
 import java.util.function.Function;
 
 import static io.opentelemetry.context.Context.root;
-import static nl.talsmasoftware.context.managers.opentelemetry.OpenTelemetryContextStorageWrapper.CAPTURE_LOCK;
 
 /**
  * Context Manager for the open telemetry {@linkplain io.opentelemetry.context.Context Context}.
@@ -107,16 +106,8 @@ public class OpenTelemetryContextManager implements ContextManager<io.openteleme
      */
     @Override
     public io.opentelemetry.context.Context getActiveContextValue() {
-        if (CAPTURE_LOCK.get() == null) {
-            try {
-                CAPTURE_LOCK.set(this); // prevent ContextSnapshot in Context in ContextSnapshot by recursion.
-                return io.opentelemetry.context.Context.current();
-            } finally {
-                CAPTURE_LOCK.remove();
-            }
-        } else {
-            return null;
-        }
+        // While capturing, the storage wrapper returns the current context without a ContextSnapshot.
+        return io.opentelemetry.context.Context.current();
     }
 
     /**
@@ -35,21 +35,13 @@ import static java.util.Objects.requireNonNull;
  *     It will {@linkplain ContextSnapshot#reactivate() reactivate} this snapshot while attaching the context.
  *     A {@linkplain Scope} is returned that will close both the attached context and the snapshot reactivation.
  *     <li>To prevent nested <em>ContextSnapshot</em> in <em>Context</em> in <em>ContextSnapshot</em> cycles,
- *     measures are taken that the captured snapshot will <em>not</em> include a current Context,
- *     when called from the {@linkplain #current()} method.
+ *     {@linkplain #current()} returns the current context <em>without</em> a ContextSnapshot
+ *     while a snapshot is {@linkplain ContextSnapshot#isCapturing() being captured},
+ *     and contexts are attached to the delegate storage without their ContextSnapshot.
  * </ol>
  */
 public class OpenTelemetryContextStorageWrapper implements ContextStorage {
 
-    /**
-     * Lock shared by {@linkplain #current()}
-     * and {@linkplain OpenTelemetryContextManager#getActiveContextValue() getActiveContextValue()} methods.
-     *
-     * <p>
-     * This prevents recursive inclusion of ContextSnapshot in open telemetry Context and vice versa,
-     * while still allowing ContextSnapshots to be included in open telemetry Context and the other way around.
-     */
-    static final ThreadLocal<Object> CAPTURE_LOCK = new ThreadLocal<>();
     /**
      * Key for the ContextSnapshot included in an open telemetry Context.
      */
@@ -91,16 +83,10 @@ public class OpenTelemetryContextStorageWrapper implements ContextStorage {
             current = root();
         }
 
-        ContextSnapshot snapshot = null;
-        if (CAPTURE_LOCK.get() == null) {
-            try {
-                CAPTURE_LOCK.set(this); // prevent Context in ContextSnapshot in Context by recursion.
-                snapshot = ContextSnapshot.capture();
-            } finally {
-                CAPTURE_LOCK.remove();
-            }
+        if (ContextSnapshot.isCapturing()) {
+            return withoutSnapshot(current); // prevent Context in ContextSnapshot in Context by recursion.
         }
-        return current.with(OTEL_SNAPSHOT_KEY, snapshot);
+        return current.with(OTEL_SNAPSHOT_KEY, ContextSnapshot.capture());
     }
 
     /**
@@ -108,6 +94,7 @@ public class OpenTelemetryContextStorageWrapper implements ContextStorage {
      *
      * <p>
      * Closing the returned Scope also closes the snapshot reactivation.
+     * The context is attached to the delegate storage without the ContextSnapshot.
      *
      * @param toAttach The context to be attached to the current thread.
      * @return A scope removes the context again when it is closed.
@@ -120,7 +107,7 @@ public class OpenTelemetryContextStorageWrapper implements ContextStorage {
         }
 
         final ContextSnapshot.Reactivation reactivation = snapshot.reactivate();
-        final Scope scope = delegate.attach(toAttach);
+        final Scope scope = delegate.attach(toAttach.with(OTEL_SNAPSHOT_KEY, null));
         return () -> {
             try {
                 scope.close();
@@ -130,4 +117,7 @@ public class OpenTelemetryContextStorageWrapper implements ContextStorage {
         };
     }
 
+    private static Context withoutSnapshot(Context context) {
+        return context.get(OTEL_SNAPSHOT_KEY) == null ? context : context.with(OTEL_SNAPSHOT_KEY, null);
+    }
 }
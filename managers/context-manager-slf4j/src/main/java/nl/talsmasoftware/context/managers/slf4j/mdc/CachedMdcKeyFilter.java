@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * {@linkplain MdcKeyFilter} combining the configured include and exclude patterns
+ * with all registered filters, caching the decision per distinct MDC key.
+ *
+ * <p>
+ * Only intended for internal use.
+ */
+final class CachedMdcKeyFilter implements MdcKeyFilter {
+    private static final Logger LOGGER = Logger.getLogger(CachedMdcKeyFilter.class.getName());
+    private static final String SYS_INCLUDE = "contextpropagation.slf4j.mdc.include";
+    private static final String ENV_INCLUDE = SYS_INCLUDE.toUpperCase().replace('.', '_');
+    private static final String SYS_EXCLUDE = "contextpropagation.slf4j.mdc.exclude";
+    private static final String ENV_EXCLUDE = SYS_EXCLUDE.toUpperCase().replace('.', '_');
+    private static final String DEFAULT_EXCLUDE = "(?i).*thread.*"; // Don't propagate thread-specific values by default
+
+    /**
+     * Maximum number of cached decisions, protecting against applications that use unbounded dynamic MDC keys.
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /**
+     * The filter instance, configured from system properties, environment variables and registered filters.
+     */
+    static final CachedMdcKeyFilter INSTANCE = new CachedMdcKeyFilter(
+            compile(configured(SYS_INCLUDE, ENV_INCLUDE, null)),
+            compile(configured(SYS_EXCLUDE, ENV_EXCLUDE, DEFAULT_EXCLUDE)),
+            loadFilters());
+
+    private final Pattern include;
+    private final Pattern exclude;
+    private final List<MdcKeyFilter> filters;
+    private final ConcurrentMap<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+    CachedMdcKeyFilter(Pattern include, Pattern exclude, List<MdcKeyFilter> filters) {
+        this.include = include;
+        this.exclude = exclude;
+        this.filters = filters;
+    }
+
+    @Override
+    public boolean mustPropagate(String mdcKey) {
+        Boolean decision = decisions.get(mdcKey);
+        if (decision == null) {
+            decision = evaluate(mdcKey);
+            if (decisions.size() < MAX_CACHE_SIZE) {
+                decisions.putIfAbsent(mdcKey, decision);
+            }
+        }
+        return decision;
+    }
+
+    private boolean evaluate(String mdcKey) {
+        if ((include != null && !include.matcher(mdcKey).matches())
+                || (exclude != null && exclude.matcher(mdcKey).matches())) {
+            return false;
+        }
+        for (MdcKeyFilter filter : filters) {
+            if (!filter.mustPropagate(mdcKey)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String configured(String systemProperty, String environmentVariable, String defaultValue) {
+        final String value = System.getProperty(systemProperty, System.getenv(environmentVariable));
+        return value == null ? defaultValue : value;
+    }
+
+    private static Pattern compile(String regex) {
+        return regex == null || regex.isEmpty() ? null : Pattern.compile(regex);
+    }
+
+    private static List<MdcKeyFilter> loadFilters() {
+        final List<MdcKeyFilter> filters = new ArrayList<>();
+        for (MdcKeyFilter filter : ServiceLoader.load(MdcKeyFilter.class)) {
+            filters.add(filter);
+        }
+        LOGGER.fine(() -> String.format("Loaded %d MdcKeyFilter service implementations: %s.", filters.size(), filters));
+        return unmodifiableList(filters);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{include=" + include + ", exclude=" + exclude + ", filters=" + filters + '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+/**
+ * Logback service provider using a {@linkplain CopyOnWriteMdcAdapter}.
+ *
+ * <p>
+ * Logback registers its own service provider, so this provider must be selected explicitly with the
+ * {@code slf4j.provider} system property:
+ * <pre>{@code
+ * -Dslf4j.provider=nl.talsmasoftware.context.managers.slf4j.mdc.CopyOnWriteLogbackServiceProvider
+ * }</pre>
+ *
+ * <p>
+ * The adapter is also set on the Logback {@code LoggerContext}, because Logback reads the MDC values
+ * for logging events from there.
+ * Logback is accessed by reflection, because it requires a newer Java version than this library.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class CopyOnWriteLogbackServiceProvider extends CopyOnWriteMdcServiceProvider {
+    /**
+     * Creates a new service provider for Logback, called by SLF4J.
+     */
+    public CopyOnWriteLogbackServiceProvider() {
+        super(newLogbackServiceProvider());
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        try {
+            getLoggerFactory().getClass().getMethod("setMDCAdapter", MDCAdapter.class)
+                    .invoke(getLoggerFactory(), getMDCAdapter());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Could not set the MDC adapter on the Logback LoggerContext.", e);
+        }
+    }
+
+    private static SLF4JServiceProvider newLogbackServiceProvider() {
+        try {
+            return (SLF4JServiceProvider) Class.forName("ch.qos.logback.classic.spi.LogbackServiceProvider")
+                    .getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Could not create the Logback service provider.", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import org.slf4j.helpers.ThreadLocalMapOfStacks;
+import org.slf4j.spi.MDCAdapter;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@linkplain MDCAdapter} that stores an <em>immutable</em> MDC map per thread.
+ *
+ * <p>
+ * Every modification replaces the map of the current thread by a modified copy.
+ * In return, the {@linkplain #getContextMap() current context map} can be obtained without copying it.
+ *
+ * <p>
+ * The {@linkplain Slf4jMdcManager} automatically detects this adapter:
+ * <ul>
+ * <li>Capturing the MDC in a {@linkplain nl.talsmasoftware.context.api.ContextSnapshot ContextSnapshot}
+ * only reads the reference to the current map.
+ * <li>Reactivating the captured MDC values replaces the map only once, regardless of the number of values.
+ * </ul>
+ *
+ * <p>
+ * This adapter has to be returned from {@linkplain org.slf4j.spi.SLF4JServiceProvider#getMDCAdapter()}
+ * by the service provider of the logging backend.
+ * For Logback and slf4j-simple, select the {@linkplain CopyOnWriteLogbackServiceProvider}
+ * or {@linkplain CopyOnWriteSimpleServiceProvider} with the {@code slf4j.provider} system property.
+ *
+ * <p>
+ * Copying the map on each modification makes {@linkplain #put(String, String)} more expensive.
+ * This adapter is therefore most beneficial for applications that propagate the MDC more often than they modify it.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class CopyOnWriteMdcAdapter implements MDCAdapter {
+    private final ThreadLocal<Map<String, String>> contextMap = new ThreadLocal<>();
+    private final ThreadLocalMapOfStacks mapOfStacks = new ThreadLocalMapOfStacks();
+
+    /**
+     * Creates a new adapter, normally called by the SLF4J service provider of the logging backend.
+     */
+    public CopyOnWriteMdcAdapter() {
+        super();
+    }
+
+    @Override
+    public void put(String key, String value) {
+        requireNonNull(key, "MDC key is <null>.");
+        final Map<String, String> current = contextMap.get();
+        if (current != null && value != null && value.equals(current.get(key))) {
+            return; // unchanged, no copy needed
+        }
+        final Map<String, String> copy = current == null ? new HashMap<>(4) : new HashMap<>(current);
+        copy.put(key, value);
+        contextMap.set(Collections.unmodifiableMap(copy));
+    }
+
+    @Override
+    public String get(String key) {
+        final Map<String, String> current = contextMap.get();
+        return current == null ? null : current.get(key);
+    }
+
+    @Override
+    public void remove(String key) {
+        final Map<String, String> current = contextMap.get();
+        if (current != null && current.containsKey(key)) {
+            final Map<String, String> copy = new HashMap<>(current);
+            copy.remove(key);
+            contextMap.set(copy.isEmpty() ? null : Collections.unmodifiableMap(copy));
+        }
+    }
+
+    @Override
+    public void clear() {
+        contextMap.remove();
+    }
+
+    /**
+     * Returns the current MDC map of this thread, without copying it.
+     *
+     * @return The unmodifiable MDC map of the current thread, or {@code null} if the MDC is empty.
+     */
+    public Map<String, String> getContextMap() {
+        return contextMap.get();
+    }
+
+    @Override
+    public Map<String, String> getCopyOfContextMap() {
+        final Map<String, String> current = contextMap.get();
+        return current == null ? null : new HashMap<>(current);
+    }
+
+    @Override
+    public void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null || contextMap.isEmpty()) {
+            this.contextMap.remove();
+        } else {
+            this.contextMap.set(Collections.unmodifiableMap(new HashMap<>(contextMap)));
+        }
+    }
+
+    /**
+     * Updates multiple MDC values at once, replacing the MDC map of the current thread only once.
+     *
+     * @param values The values to update, where a {@code null} value removes the key from the MDC.
+     * @return The previous values for the updated keys, where a {@code null} value means the key was absent.
+     * The result can be passed to this method again to restore the previous values.
+     */
+    public Map<String, String> update(Map<String, String> values) {
+        final Map<String, String> current = contextMap.get();
+        final Map<String, String> previous = new HashMap<>(values.size());
+        final Map<String, String> copy = current == null ? new HashMap<>(values.size()) : new HashMap<>(current);
+        values.forEach((key, value) -> {
+            previous.put(key, value == null ? copy.remove(key) : copy.put(key, value));
+        });
+        contextMap.set(copy.isEmpty() ? null : Collections.unmodifiableMap(copy));
+        return previous;
+    }
+
+    @Override
+    public void pushByKey(String key, String value) {
+        mapOfStacks.pushByKey(key, value);
+    }
+
+    @Override
+    public String popByKey(String key) {
+        return mapOfStacks.popByKey(key);
+    }
+
+    @Override
+    public Deque<String> getCopyOfDequeByKey(String key) {
+        return mapOfStacks.getCopyOfDequeByKey(key);
+    }
+
+    @Override
+    public void clearDequeByKey(String key) {
+        mapOfStacks.clearDequeByKey(key);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+/**
+ * Service provider that delegates to the service provider of a logging backend,
+ * but provides a {@linkplain CopyOnWriteMdcAdapter} as MDC adapter.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+abstract class CopyOnWriteMdcServiceProvider implements SLF4JServiceProvider {
+    private final SLF4JServiceProvider delegate;
+    private final CopyOnWriteMdcAdapter mdcAdapter = new CopyOnWriteMdcAdapter();
+
+    CopyOnWriteMdcServiceProvider(SLF4JServiceProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return delegate.getLoggerFactory();
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return delegate.getMarkerFactory();
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return mdcAdapter;
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return delegate.getRequestedApiVersion();
+    }
+
+    @Override
+    public void initialize() {
+        delegate.initialize();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import org.slf4j.simple.SimpleServiceProvider;
+
+/**
+ * slf4j-simple service provider using a {@linkplain CopyOnWriteMdcAdapter}.
+ *
+ * <p>
+ * slf4j-simple registers its own service provider, which has no MDC support.
+ * Select this provider with the {@code slf4j.provider} system property to propagate MDC values:
+ * <pre>{@code
+ * -Dslf4j.provider=nl.talsmasoftware.context.managers.slf4j.mdc.CopyOnWriteSimpleServiceProvider
+ * }</pre>
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+public class CopyOnWriteSimpleServiceProvider extends CopyOnWriteMdcServiceProvider {
+    /**
+     * Creates a new service provider for slf4j-simple, called by SLF4J.
+     */
+    public CopyOnWriteSimpleServiceProvider() {
+        super(new SimpleServiceProvider());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+/**
+ * Service provider interface to determine which MDC keys must be propagated.
+ *
+ * <p>
+ * Implementations can be registered using the standard Java {@linkplain java.util.ServiceLoader ServiceLoader}
+ * by adding the fully qualified class name to a resource called
+ * {@code /META-INF/services/nl.talsmasoftware.context.managers.slf4j.mdc.MdcKeyFilter}.<br>
+ * An MDC key is only propagated if <em>all</em> registered filters accept it,
+ * besides the include and exclude patterns that can be configured with the following system properties
+ * or environment variables:
+ * <ul>
+ * <li>{@code contextpropagation.slf4j.mdc.include} / {@code CONTEXTPROPAGATION_SLF4J_MDC_INCLUDE}:
+ * regular expression for MDC keys to propagate (default: all keys).
+ * <li>{@code contextpropagation.slf4j.mdc.exclude} / {@code CONTEXTPROPAGATION_SLF4J_MDC_EXCLUDE}:
+ * regular expression for MDC keys <em>not</em> to propagate
+ * (default: keys containing the case-insensitive substring {@code "thread"}).
+ * </ul>
+ *
+ * <p>
+ * The decision for each distinct MDC key is cached.
+ * Therefore, implementations must always return the same decision for the same key.
+ *
+ * @author Sjoerd Talsma
+ * @since 2.0.6
+ */
+@FunctionalInterface
+public interface MdcKeyFilter {
+    /**
+     * Determines whether the MDC value for the given key must be propagated.
+     *
+     * @param mdcKey The MDC key (never {@code null}).
+     * @return {@code true} if the MDC value must be propagated, {@code false} if it must be left unchanged.
+     */
+    boolean mustPropagate(String mdcKey);
+}
@@ -17,26 +17,79 @@ package nl.talsmasoftware.context.managers.slf4j.mdc;
 
 import nl.talsmasoftware.context.api.Context;
 import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
 
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 
 final class Slf4jMdcContext implements Context {
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final Map<String, String> values;
     private final Map<String, String> previous;
+    private final CopyOnWriteMdcAdapter copyOnWriteAdapter;
+    private final Map<String, String> activatedContextMap;
 
     Slf4jMdcContext(Map<String, String> values) {
         // Capture current MDC as 'previous' and make the given values the 'new current' MDC.
-        this.previous = new HashMap<>(values.size());
-        applyMdcValues(values, previous::put);
+        // With the copy-on-write MDC adapter, only the values that actually change are applied.
+        this.values = values;
+        final MDCAdapter mdcAdapter = MDC.getMDCAdapter();
+        if (mdcAdapter instanceof CopyOnWriteMdcAdapter) {
+            this.copyOnWriteAdapter = (CopyOnWriteMdcAdapter) mdcAdapter;
+            final Map<String, String> toApply = new HashMap<>(values.size());
+            values.forEach((key, value) -> {
+                if (mustPropagate(key) && !Objects.equals(copyOnWriteAdapter.get(key), value)) {
+                    toApply.put(key, value);
+                }
+            });
+            this.previous = toApply.isEmpty() ? toApply : copyOnWriteAdapter.update(toApply);
+            this.activatedContextMap = copyOnWriteAdapter.getContextMap();
+        } else {
+            this.copyOnWriteAdapter = null;
+            this.activatedContextMap = null;
+            this.previous = new HashMap<>(values.size());
+            applyMdcValues(values, previous::put);
+        }
     }
 
+    /**
+     * Restores the previous MDC values for all propagated keys.
+     *
+     * <p>
+     * If the (immutable) copy-on-write MDC map is still the same map as right after activation,
+     * only the values that were changed by the activation have to be restored.
+     */
     public void close() {
         if (closed.compareAndSet(false, true)) {
-            applyMdcValues(previous, null);
+            if (copyOnWriteAdapter == null) {
+                applyMdcValues(previous, null);
+            } else if (copyOnWriteAdapter == MDC.getMDCAdapter()
+                    && copyOnWriteAdapter.getContextMap() == activatedContextMap) {
+                if (!previous.isEmpty()) {
+                    copyOnWriteAdapter.update(previous);
+                }
+            } else {
+                restorePreviousValues();
+            }
+        }
+    }
+
+    private void restorePreviousValues() {
+        final Map<String, String> previousValues = new HashMap<>(values.size());
+        values.forEach((key, value) -> {
+            if (mustPropagate(key)) {
+                // Keys that were skipped on activation already had the propagated value
+                previousValues.put(key, previous.containsKey(key) ? previous.get(key) : value);
+            }
+        });
+        final MDCAdapter mdcAdapter = MDC.getMDCAdapter();
+        if (mdcAdapter instanceof CopyOnWriteMdcAdapter) {
+            ((CopyOnWriteMdcAdapter) mdcAdapter).update(previousValues);
+        } else {
+            applyMdcValues(previousValues, null);
         }
     }
 
@@ -56,8 +109,7 @@ final class Slf4jMdcContext implements Context {
     }
 
     private static boolean mustPropagate(String mdcKey) {
-        // Built-in for now, possibly through a MdcKeyFilter SPI mechanism later is someone asks for it.
-        return !mdcKey.toLowerCase(Locale.ROOT).contains("thread"); // Don't propagate thread-specific values by default
+        return CachedMdcKeyFilter.INSTANCE.mustPropagate(mdcKey);
     }
 
     private static void keepPreviousValue(BiConsumer<String, String> previousValuesConsumer, String key) {
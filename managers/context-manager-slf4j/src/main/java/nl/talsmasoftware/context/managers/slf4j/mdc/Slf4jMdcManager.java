@@ -19,6 +19,7 @@ import nl.talsmasoftware.context.api.Context;
 import nl.talsmasoftware.context.api.ContextManager;
 import nl.talsmasoftware.context.api.ContextSnapshot;
 import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
 
 import java.util.Collections;
 import java.util.Map;
@@ -35,14 +36,19 @@ import java.util.Map;
  * these captured values (and <em>only</em> these captured values) are reactivated in the MDC.
  * <ul>
  *  <li>MDC keys that exist in the target MDC which are <em>not</em> part of the snapshot are left unchanged.
- *  <li>MDC keys with the case-insensitive substring {@code "thread"}, are <em>not</em> captured
- *      in the {@linkplain ContextSnapshot},
+ *  <li>By default, MDC keys with the case-insensitive substring {@code "thread"}, are <em>not</em> propagated
+ *      by the {@linkplain ContextSnapshot},
  *      since they most-likely contain a thread-specific value.
+ *      Which MDC keys are propagated can be configured, see {@linkplain MdcKeyFilter}.
  *  <li>When a reactivation is <em>closed</em>, the <em>previous</em> MDC values <em>for the captured keys</em> are restored.
  *      All other keys that are not part of the context snapshot will be left unchanged.
  * </ul>
  *
  * <p>
+ * If the MDC uses a {@linkplain CopyOnWriteMdcAdapter}, capturing the MDC does not copy the MDC map
+ * and reactivating the captured values replaces the map only once.
+ *
+ * <p>
  * Closing a context returned form {@link #activate(Map)} restores the MDC
  * to the values it had before the context was created.<br>
  * This means that closing nested contexts out-of-order will probably result in an undesirable state.<br>
@@ -106,11 +112,17 @@ public class Slf4jMdcManager implements ContextManager<Map<String, String>> {
     /**
      * Returns the active MDC values from the current thread.
      *
+     * <p>
+     * If the MDC uses a {@linkplain CopyOnWriteMdcAdapter}, its immutable map is returned without copying it.
+     *
      * @return The active MDC values.
      * @see MDC#getCopyOfContextMap()
      */
     public Map<String, String> getActiveContextValue() {
-        return MDC.getCopyOfContextMap();
+        final MDCAdapter mdcAdapter = MDC.getMDCAdapter();
+        return mdcAdapter instanceof CopyOnWriteMdcAdapter
+                ? ((CopyOnWriteMdcAdapter) mdcAdapter).getContextMap()
+                : MDC.getCopyOfContextMap();
     }
 
     /**
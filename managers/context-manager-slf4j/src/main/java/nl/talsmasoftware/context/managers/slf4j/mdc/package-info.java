@@ -26,9 +26,11 @@
  * these captured values (and <em>only</em> these captured values) are reactivated in the MDC.
  * <ul>
  *  <li>MDC keys that exist in the target MDC which are <em>not</em> part of the snapshot are left unchanged.
- *  <li>MDC keys with the case-insensitive substring {@code "thread"}, are <em>not</em> captured
- *      in the {@linkplain nl.talsmasoftware.context.api.ContextSnapshot},
+ *  <li>By default, MDC keys with the case-insensitive substring {@code "thread"}, are <em>not</em> propagated
+ *      by the {@linkplain nl.talsmasoftware.context.api.ContextSnapshot},
  *      since they most-likely contain a thread-specific value.
+ *      Which MDC keys are propagated can be configured,
+ *      see {@linkplain nl.talsmasoftware.context.managers.slf4j.mdc.MdcKeyFilter MdcKeyFilter}.
  *  <li>When a reactivation is <em>closed</em>, the <em>previous</em> MDC values <em>for the captured keys</em> are restored.
  *      All other keys that are not part of the context snapshot will be left unchanged.
  * </ul>
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for the {@link CachedMdcKeyFilter}.
+ *
+ * @author Sjoerd Talsma
+ */
+class CachedMdcKeyFilterTest {
+
+    @Test
+    void defaultFilterExcludesThreadKeys() {
+        assertThat(CachedMdcKeyFilter.INSTANCE.mustPropagate("request-id")).isTrue();
+        assertThat(CachedMdcKeyFilter.INSTANCE.mustPropagate("threadName")).isFalse();
+        assertThat(CachedMdcKeyFilter.INSTANCE.mustPropagate("Worker-THREAD-id")).isFalse();
+    }
+
+    @Test
+    void registeredFiltersAreApplied() {
+        assertThat(CachedMdcKeyFilter.INSTANCE.mustPropagate("large-payload")).isFalse();
+        assertThat(CachedMdcKeyFilter.INSTANCE.mustPropagate("small-payload")).isTrue();
+    }
+
+    @Test
+    void includeAndExcludePatterns() {
+        CachedMdcKeyFilter filter = new CachedMdcKeyFilter(
+                Pattern.compile("request\\..*"), Pattern.compile(".*\\.body"), Collections.emptyList());
+
+        assertThat(filter.mustPropagate("request.id")).isTrue();
+        assertThat(filter.mustPropagate("request.body")).isFalse();
+        assertThat(filter.mustPropagate("user")).isFalse();
+    }
+
+    @Test
+    void decisionIsCachedPerKey() {
+        AtomicInteger evaluations = new AtomicInteger(0);
+        CachedMdcKeyFilter filter = new CachedMdcKeyFilter(null, null, Collections.singletonList(key -> {
+            evaluations.incrementAndGet();
+            return true;
+        }));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.mustPropagate("key")).isTrue();
+        }
+        assertThat(filter.mustPropagate("other-key")).isTrue();
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import nl.talsmasoftware.context.core.concurrent.ContextAwareExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with the {@link CopyOnWriteLogbackServiceProvider} selected by the {@code slf4j.provider} system property.
+ *
+ * @author Sjoerd Talsma
+ */
+class CopyOnWriteLogbackServiceProviderIT {
+    final Logger logger = (Logger) LoggerFactory.getLogger(CopyOnWriteLogbackServiceProviderIT.class);
+    final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    ExecutorService threadpool;
+
+    @BeforeEach
+    void setup() {
+        appender.start();
+        logger.addAppender(appender);
+        threadpool = ContextAwareExecutorService.wrap(Executors.newCachedThreadPool());
+    }
+
+    @AfterEach
+    void tearDown() {
+        threadpool.shutdown();
+        logger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void mdcUsesCopyOnWriteAdapter() {
+        assertThat(MDC.getMDCAdapter()).isInstanceOf(CopyOnWriteMdcAdapter.class);
+        assertThat(((LoggerContext) LoggerFactory.getILoggerFactory()).getMDCAdapter()).isSameAs(MDC.getMDCAdapter());
+    }
+
+    @Test
+    void propagatedMdcValuesAreLogged() throws Exception {
+        MDC.put("key", "value");
+
+        threadpool.submit(() -> logger.info("Logged from other thread")).get();
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getMDCPropertyMap()).containsExactly(Map.entry("key", "value"));
+    }
+}
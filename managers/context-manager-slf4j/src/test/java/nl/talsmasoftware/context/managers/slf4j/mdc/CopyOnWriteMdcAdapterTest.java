@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.context.managers.slf4j.mdc;
+
+import nl.talsmasoftware.context.api.ContextSnapshot;
+import nl.talsmasoftware.context.core.concurrent.ContextAwareExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.slf4j.simple.SimpleLogger;
+import org.slf4j.spi.MDCAdapter;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit test for the {@link CopyOnWriteMdcAdapter}.
+ *
+ * @author Sjoerd Talsma
+ */
+class CopyOnWriteMdcAdapterTest {
+    CopyOnWriteMdcAdapter adapter = new CopyOnWriteMdcAdapter();
+    MDCAdapter originalAdapter;
+
+    @BeforeEach
+    void installAdapter() throws ReflectiveOperationException {
+        originalAdapter = MDC.getMDCAdapter();
+        setMdcAdapter(adapter);
+    }
+
+    @AfterEach
+    void restoreAdapter() throws ReflectiveOperationException {
+        MDC.clear();
+        setMdcAdapter(originalAdapter);
+    }
+
+    private static void setMdcAdapter(MDCAdapter mdcAdapter) throws ReflectiveOperationException {
+        Field field = MDC.class.getDeclaredField("MDC_ADAPTER");
+        field.setAccessible(true);
+        field.set(null, mdcAdapter);
+    }
+
+    @Test
+    void contextMapIsImmutable() {
+        MDC.put("key", "value");
+        Map<String, String> contextMap = adapter.getContextMap();
+
+        assertThat(contextMap).containsExactly(Map.entry("key", "value"));
+        assertThatThrownBy(() -> contextMap.put("other", "value")).isInstanceOf(UnsupportedOperationException.class);
+        MDC.put("other", "value");
+        assertThat(contextMap).containsExactly(Map.entry("key", "value"));
+        assertThat(MDC.getCopyOfContextMap()).containsOnlyKeys("key", "other");
+    }
+
+    @Test
+    void putUnchangedValueDoesNotCopyContextMap() {
+        MDC.put("key", new String("value"));
+        Map<String, String> contextMap = adapter.getContextMap();
+
+        MDC.put("key", "value");
+        assertThat(adapter.getContextMap()).isSameAs(contextMap);
+        MDC.put("key", "other value");
+        assertThat(adapter.getContextMap()).isNotSameAs(contextMap).containsExactly(Map.entry("key", "other value"));
+    }
+
+    @Test
+    void simpleServiceProviderUsesCopyOnWriteAdapter() {
+        CopyOnWriteSimpleServiceProvider provider = new CopyOnWriteSimpleServiceProvider();
+        provider.initialize();
+
+        assertThat(provider.getMDCAdapter()).isInstanceOf(CopyOnWriteMdcAdapter.class);
+        assertThat(provider.getLoggerFactory().getLogger("test")).isInstanceOf(SimpleLogger.class);
+        assertThat(provider.getMarkerFactory()).isNotNull();
+        assertThat(provider.getRequestedApiVersion()).isNotNull();
+        assertThat(provider).hasToString("CopyOnWriteSimpleServiceProvider");
+    }
+
+    @Test
+    void removeLastKeyEmptiesContextMap() {
+        MDC.put("key", "value");
+        MDC.remove("key");
+        assertThat(adapter.getContextMap()).isNull();
+        assertThat(MDC.getCopyOfContextMap()).isNull();
+    }
+
+    @Test
+    void updateReturnsPreviousValues() {
+        MDC.put("key1", "value1");
+        MDC.put("key2", "value2");
+        Map<String, String> update = new HashMap<>();
+        update.put("key1", "new value");
+        update.put("key2", null);
+        update.put("key3", "value3");
+
+        Map<String, String> previous = adapter.update(update);
+        assertThat(adapter.getContextMap()).containsOnly(Map.entry("key1", "new value"), Map.entry("key3", "value3"));
+
+        adapter.update(previous);
+        assertThat(adapter.getContextMap()).containsOnly(Map.entry("key1", "value1"), Map.entry("key2", "value2"));
+    }
+
+    @Test
+    void captureDoesNotCopyContextMap() {
+        MDC.put("key", "value");
+        Map<String, String> contextMap = adapter.getContextMap();
+        assertThat(Slf4jMdcManager.provider().getActiveContextValue()).isSameAs(contextMap);
+    }
+
+    @Test
+    void reactivationRestoresPreviousValues() throws Exception {
+        MDC.put("key", "value1");
+        MDC.put("unrelated", "unrelated value");
+        MDC.put("threadName", "thread 1");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        MDC.put("key", "value2");
+        MDC.put("threadName", "thread 2");
+
+        try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+            assertThat(MDC.get("key")).isEqualTo("value1");
+            assertThat(MDC.get("threadName")).isEqualTo("thread 2");
+            MDC.put("unrelated", "changed");
+        }
+
+        assertThat(MDC.get("key")).isEqualTo("value2");
+        assertThat(MDC.get("unrelated")).isEqualTo("unrelated value");
+        assertThat(MDC.get("threadName")).isEqualTo("thread 2");
+    }
+
+    @Test
+    void closingUnmodifiedReactivationRestoresChangedValues() {
+        MDC.put("key", "value1");
+        MDC.put("unrelated", "unrelated value");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        MDC.put("key", "value2");
+        MDC.put("new key", "new value");
+        Map<String, String> contextMap = adapter.getContextMap();
+
+        try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+            assertThat(adapter.getContextMap()).containsOnly(
+                    Map.entry("key", "value1"), Map.entry("unrelated", "unrelated value"), Map.entry("new key", "new value"));
+        }
+
+        assertThat(adapter.getContextMap()).isEqualTo(contextMap);
+    }
+
+    @Test
+    void propagateToOtherThread() throws Exception {
+        ExecutorService threadpool = ContextAwareExecutorService.wrap(Executors.newCachedThreadPool());
+        try {
+            MDC.put("key", "value");
+            assertThat(threadpool.submit(() -> MDC.get("key")).get()).isEqualTo("value");
+        } finally {
+            threadpool.shutdown();
+        }
+    }
+
+    @Test
+    void dequeByKey() {
+        MDC.pushByKey("stack", "value1");
+        MDC.pushByKey("stack", "value2");
+        assertThat(adapter.getCopyOfDequeByKey("stack")).containsExactly("value2", "value1");
+        assertThat(MDC.popByKey("stack")).isEqualTo("value2");
+        adapter.clearDequeByKey("stack");
+        assertThat(adapter.getCopyOfDequeByKey("stack")).isNullOrEmpty();
+    }
+}
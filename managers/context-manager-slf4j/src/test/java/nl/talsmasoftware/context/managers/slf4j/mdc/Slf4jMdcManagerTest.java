@@ -115,4 +115,33 @@ class Slf4jMdcManagerTest {
         assertThat(MDC.get("test-key-1")).isNull();
         assertThat(MDC.get("test-key-2")).isEqualTo("unrelated value not in the snapshot");
     }
+
+    @Test
+    void keysRejectedByRegisteredFilterAreNotPropagated() throws Exception {
+        MDC.put("large-payload", "not propagated");
+        MDC.put("small-payload", "propagated");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        MDC.clear();
+
+        assertThat(snapshot.wrap(() -> MDC.get("large-payload")).call()).isNull();
+        assertThat(snapshot.wrap(() -> MDC.get("small-payload")).call()).isEqualTo("propagated");
+    }
+
+    @Test
+    void capturedKeysAreRestored() {
+        for (int i = 0; i < 50; i++) {
+            MDC.put("key-" + i, "value-" + i);
+        }
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        MDC.put("key-7", "changed");
+
+        try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+            assertThat(MDC.get("key-7")).isEqualTo("value-7");
+            MDC.put("key-8", "changed within reactivation");
+        }
+
+        assertThat(MDC.get("key-7")).isEqualTo("changed");
+        assertThat(MDC.get("key-8")).as("Captured key changed within reactivation").isEqualTo("value-8");
+        assertThat(MDC.get("key-9")).isEqualTo("value-9");
+    }
 }
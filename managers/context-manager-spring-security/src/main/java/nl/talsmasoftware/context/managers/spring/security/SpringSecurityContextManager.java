@@ -21,8 +21,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 /**
  * Manager to propagate the {@linkplain Authentication Spring Security Authentication}
  * from one thread to another.
@@ -98,11 +96,10 @@ public class SpringSecurityContextManager implements ContextManager<Authenticati
 
     private static final class AuthenticationContext implements Context {
         private final SecurityContext previous;
-        private final AtomicBoolean closed;
+        private boolean closed;
 
         private AuthenticationContext(Authentication authentication) {
             this.previous = SecurityContextHolder.getContext();
-            this.closed = new AtomicBoolean(false);
             setCurrentAuthentication(authentication);
         }
 
@@ -119,7 +116,8 @@ public class SpringSecurityContextManager implements ContextManager<Authenticati
         }
 
         public void close() {
-            if (closed.compareAndSet(false, true)) {
+            if (!closed) {
+                closed = true;
                 SecurityContextHolder.setContext(previous);
             }
         }
@@ -108,6 +108,34 @@ public class SpringSecurityContextManagerTest {
                 .contains("Jules Winnfield");
     }
 
+    @Test
+    public void testReactivatingSameAuthenticationDoesNotShareSecurityContext() {
+        setAuthentication("Vincent Vega");
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+            assertThat(SecurityContextHolder.getContext()).isNotSameAs(securityContext);
+            SecurityContextHolder.getContext().setAuthentication(new TestAuthentication("Jules Winnfield"));
+        }
+        assertThat(SecurityContextHolder.getContext()).isSameAs(securityContext);
+        assertThat(securityContext.getAuthentication().getName()).isEqualTo("Vincent Vega");
+    }
+
+    @Test
+    public void testReactivationRestoresPreviousSecurityContext() {
+        setAuthentication("Vincent Vega");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        setAuthentication("Jules Winnfield");
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        try (ContextSnapshot.Reactivation reactivation = snapshot.reactivate()) {
+            assertThat(SecurityContextHolder.getContext()).isNotSameAs(securityContext);
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("Vincent Vega");
+        }
+        assertThat(SecurityContextHolder.getContext()).isSameAs(securityContext);
+    }
+
     @Test
     public void testClearableImplementation() {
         setAuthentication("Vincent Vega");